@@ -0,0 +1,158 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.persistence;
+
+import com.lgi.appstore.metadata.api.maintainer.AppsService;
+import com.lgi.appstore.metadata.api.maintainer.PersistentAppsService;
+import com.lgi.appstore.metadata.api.strategy.TestContainerPostgresSQLWaitStrategy;
+import com.lgi.appstore.metadata.jooq.model.DefaultCatalog;
+import com.lgi.appstore.metadata.model.Application;
+import com.lgi.appstore.metadata.model.ApplicationImportResults;
+import com.lgi.appstore.metadata.model.ApplicationType;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.Hardware;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.MaintainerApplicationHeader;
+import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.Requirements;
+import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_CHANGE;
+import static com.lgi.appstore.metadata.jooq.model.Tables.MAINTAINER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ApplicationImportBenchmark {
+
+    private static final String MAINTAINER_CODE = "benchmark";
+    private static final int APPLICATIONS = 50;
+    private static final int VERSIONS_PER_APPLICATION = 20;
+
+    private PostgreSQLContainer<?> container;
+    private Connection connection;
+    private DSLContext dslContext;
+    private AppsService appsService;
+    private List<Application> applications;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        container = new PostgreSQLContainer<>("postgres:12");
+        container.waitingFor(new TestContainerPostgresSQLWaitStrategy(container.getUsername(), container.getPassword()));
+        container.start();
+
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .schemas(DefaultCatalog.DEFAULT_CATALOG.getSchemas().get(0).getName())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        dslContext = DSL.using(connection, SQLDialect.POSTGRES, new Settings().withExecuteLogging(false));
+        dslContext.execute("insert into {0} (code, name) values ({1}, 'Benchmark')", MAINTAINER, DSL.val(MAINTAINER_CODE));
+
+        appsService = new PersistentAppsService(dslContext,
+                new ApplicationUrlService(new ApplicationUrlCreator("", ""), List.of(ApplicationType.HTML5)),
+                event -> {});
+
+        applications = new ArrayList<>();
+        for (int application = 1; application <= APPLICATIONS; application++) {
+            for (int version = 1; version <= VERSIONS_PER_APPLICATION; version++) {
+                applications.add(application("com.lgi.benchmark" + application, "1." + version + ".0"));
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void deleteApplications() {
+        dslContext.deleteFrom(APPLICATION).execute();
+        dslContext.deleteFrom(APPLICATION_CHANGE).execute();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        container.stop();
+    }
+
+    @Benchmark
+    public int addOneByOne() {
+        applications.forEach(application -> appsService.addApplication(MAINTAINER_CODE, application));
+        return applications.size();
+    }
+
+    @Benchmark
+    public ApplicationImportResults importInBulk() {
+        return appsService.importApplications(MAINTAINER_CODE, applications.iterator());
+    }
+
+    private static Application application(String id, String version) {
+        return new Application()
+                .header(new MaintainerApplicationHeader()
+                        .id(id)
+                        .version(version)
+                        .name("Application " + id)
+                        .description("Benchmark application " + id + " " + version)
+                        .icon("icon.png")
+                        .type(ApplicationType.DAC_NATIVE.getValue())
+                        .category(Category.APPLICATION)
+                        .size(10000000)
+                        .visible(true)
+                        .encryption(false)
+                        .preferred(false)
+                        .ociImageUrl("oci://" + id + ":" + version)
+                        .localization(List.of(new Localization().languageCode("en").name(id).description(version))))
+                .requirements(new Requirements()
+                        .platform(new Platform().architecture("arm").os("linux").variant("v7"))
+                        .hardware(new Hardware().ram("256M").cache("64M").persistent("1G"))
+                        .dependencies(List.of())
+                        .features(List.of()));
+    }
+}
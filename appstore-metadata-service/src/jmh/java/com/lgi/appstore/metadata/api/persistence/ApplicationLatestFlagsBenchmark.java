@@ -0,0 +1,175 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.persistence;
+
+import com.lgi.appstore.metadata.api.maintainer.AppsService;
+import com.lgi.appstore.metadata.api.maintainer.PersistentAppsService;
+import com.lgi.appstore.metadata.api.strategy.TestContainerPostgresSQLWaitStrategy;
+import com.lgi.appstore.metadata.jooq.model.DefaultCatalog;
+import com.lgi.appstore.metadata.model.Application;
+import com.lgi.appstore.metadata.model.ApplicationForUpdate;
+import com.lgi.appstore.metadata.model.ApplicationHeaderForUpdate;
+import com.lgi.appstore.metadata.model.ApplicationType;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.Hardware;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.MaintainerApplicationHeader;
+import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.Requirements;
+import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_LATEST;
+import static com.lgi.appstore.metadata.jooq.model.Tables.MAINTAINER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationLatestFlagsBenchmark {
+
+    private static final String MAINTAINER_CODE = "benchmark";
+    private static final String APPLICATION_ID = "com.lgi.benchmark";
+    private static final String NEWEST_VERSION = "2.0.0";
+    private static final String OLD_VERSION = "1.1.0";
+
+    @Param({"500", "2000"})
+    private int versions;
+
+    private PostgreSQLContainer<?> container;
+    private Connection connection;
+    private DSLContext dslContext;
+    private AppsService appsService;
+    private Application newestVersion;
+    private ApplicationForUpdate oldVersionUpdate;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        container = new PostgreSQLContainer<>("postgres:12");
+        container.waitingFor(new TestContainerPostgresSQLWaitStrategy(container.getUsername(), container.getPassword()));
+        container.start();
+
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .schemas(DefaultCatalog.DEFAULT_CATALOG.getSchemas().get(0).getName())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        dslContext = DSL.using(connection, SQLDialect.POSTGRES, new Settings().withExecuteLogging(false));
+        dslContext.execute("insert into {0} (code, name) values ({1}, 'Benchmark')", MAINTAINER, DSL.val(MAINTAINER_CODE));
+        dslContext.execute("insert into {0} (maintainer_id, id_rdomain, version, visible, preferred, name, description, type, category, platform, localizations) "
+                        + "select m.id, {2}, '1.' || v || '.0', true, false, "
+                        + "'Application', 'Description', 'application/vnd.rdk-app.dac.native', 'application', '{}', '[]' "
+                        + "from generate_series(1, {3}) v cross join {1} m",
+                APPLICATION, MAINTAINER, DSL.val(APPLICATION_ID), DSL.inline(versions));
+        dslContext.execute("insert into {0} (id_rdomain, maintainer_id, stb_latest_id, maintainer_latest_id) "
+                        + "select id_rdomain, maintainer_id, id, id from {1} where version = '1.' || {2} || '.0'",
+                APPLICATION_LATEST, APPLICATION, DSL.inline(versions));
+        dslContext.execute("analyze {0}", APPLICATION);
+        dslContext.execute("analyze {0}", APPLICATION_LATEST);
+
+        appsService = new PersistentAppsService(dslContext,
+                new ApplicationUrlService(new ApplicationUrlCreator("", ""), List.of(ApplicationType.HTML5)),
+                event -> {});
+
+        final Requirements requirements = new Requirements()
+                .platform(new Platform().architecture("arm").os("linux").variant("v7"))
+                .hardware(new Hardware().ram("256M").cache("64M").persistent("1G"))
+                .dependencies(List.of())
+                .features(List.of());
+        final List<Localization> localizations = List.of(new Localization().languageCode("en").name("Application").description("Description"));
+        newestVersion = new Application()
+                .header(new MaintainerApplicationHeader()
+                        .id(APPLICATION_ID)
+                        .version(NEWEST_VERSION)
+                        .name("Application")
+                        .description("Description")
+                        .icon("icon.png")
+                        .type(ApplicationType.DAC_NATIVE.getValue())
+                        .category(Category.APPLICATION)
+                        .size(10000000)
+                        .visible(true)
+                        .encryption(false)
+                        .preferred(false)
+                        .ociImageUrl("oci://" + APPLICATION_ID)
+                        .localization(localizations))
+                .requirements(requirements);
+        oldVersionUpdate = new ApplicationForUpdate()
+                .header(new ApplicationHeaderForUpdate()
+                        .name("Application")
+                        .description("Updated description")
+                        .icon("icon.png")
+                        .type(ApplicationType.DAC_NATIVE.getValue())
+                        .category(Category.APPLICATION)
+                        .size(10000000)
+                        .visible(true)
+                        .encryption(false)
+                        .preferred(false)
+                        .ociImageUrl("oci://" + APPLICATION_ID)
+                        .localization(localizations))
+                .requirements(requirements);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        container.stop();
+    }
+
+    @Benchmark
+    public boolean addAndDeleteNewestVersion() {
+        appsService.addApplication(MAINTAINER_CODE, newestVersion);
+        return appsService.deleteApplication(MAINTAINER_CODE, APPLICATION_ID, NEWEST_VERSION);
+    }
+
+    @Benchmark
+    public boolean updateOldVersion() {
+        return appsService.updateApplication(MAINTAINER_CODE, APPLICATION_ID, OLD_VERSION, oldVersionUpdate);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.persistence;
+
+import com.lgi.appstore.metadata.api.strategy.TestContainerPostgresSQLWaitStrategy;
+import com.lgi.appstore.metadata.jooq.model.DefaultCatalog;
+import com.lgi.appstore.metadata.model.ApplicationType;
+import com.lgi.appstore.metadata.model.MaintainerApplicationsList;
+import com.lgi.appstore.metadata.model.StbApplicationsList;
+import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_LATEST;
+import static com.lgi.appstore.metadata.jooq.model.Tables.MAINTAINER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationSearchBenchmark {
+
+    private static final String MAINTAINER_CODE = "benchmark";
+    private static final int APPLICATIONS = 2500;
+    private static final int VERSIONS_PER_APPLICATION = 20;
+
+    @Param({"true", "false"})
+    private boolean trigramIndexes;
+
+    private PostgreSQLContainer<?> container;
+    private Connection connection;
+    private DSLContext dslContext;
+    private com.lgi.appstore.metadata.api.stb.AppsService stbAppsService;
+    private com.lgi.appstore.metadata.api.maintainer.AppsService maintainerAppsService;
+    private List<String> nameSearchTerms;
+    private List<String> descriptionSearchTerms;
+    private int searchTermIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        container = new PostgreSQLContainer<>("postgres:12");
+        container.waitingFor(new TestContainerPostgresSQLWaitStrategy(container.getUsername(), container.getPassword()));
+        container.start();
+
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .schemas(DefaultCatalog.DEFAULT_CATALOG.getSchemas().get(0).getName())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        dslContext = DSL.using(connection, SQLDialect.POSTGRES, new Settings().withExecuteLogging(false));
+        dslContext.execute("insert into {0} (code, name) values ({1}, 'Benchmark')", MAINTAINER, DSL.val(MAINTAINER_CODE));
+        dslContext.execute("insert into {0} (maintainer_id, id_rdomain, version, visible, preferred, name, description, type, category, platform, localizations) "
+                        + "select m.id, 'com.lgi.benchmark' || a, '1.' || v || '.0', true, false, "
+                        + "'Application ' || md5(a::text), md5(v || '-' || a) || ' ' || md5(a || '-' || v), 'application/vnd.rdk-app.dac.native', 'application', '{}', '[]' "
+                        + "from generate_series(1, {3}) a cross join generate_series(1, {2}) v cross join {1} m",
+                APPLICATION, MAINTAINER, DSL.inline(VERSIONS_PER_APPLICATION), DSL.inline(APPLICATIONS));
+        dslContext.execute("insert into {0} (id_rdomain, maintainer_id, stb_latest_id, maintainer_latest_id) "
+                        + "select id_rdomain, maintainer_id, id, id from {1} where version = '1.' || {2} || '.0'",
+                APPLICATION_LATEST, APPLICATION, DSL.inline(VERSIONS_PER_APPLICATION));
+        if (!trigramIndexes) {
+            dslContext.execute("drop index {0}", DSL.name(APPLICATION.getSchema().getName(), "application_name_trgm_idx"));
+            dslContext.execute("drop index {0}", DSL.name(APPLICATION.getSchema().getName(), "application_description_trgm_idx"));
+        }
+        dslContext.execute("analyze {0}", APPLICATION);
+        dslContext.execute("analyze {0}", APPLICATION_LATEST);
+
+        nameSearchTerms = dslContext.select(DSL.substring(APPLICATION.NAME, DSL.inline(20), DSL.inline(6)))
+                .from(APPLICATION)
+                .orderBy(DSL.rand())
+                .limit(100)
+                .fetch(0, String.class);
+        descriptionSearchTerms = dslContext.select(DSL.substring(APPLICATION.DESCRIPTION, DSL.inline(5), DSL.inline(6)))
+                .from(APPLICATION)
+                .orderBy(DSL.rand())
+                .limit(100)
+                .fetch(0, String.class);
+
+        final ApplicationUrlService applicationUrlService = new ApplicationUrlService(new ApplicationUrlCreator("", ""), List.of(ApplicationType.HTML5));
+        stbAppsService = new com.lgi.appstore.metadata.api.stb.PersistentAppsService(dslContext, applicationUrlService);
+        maintainerAppsService = new com.lgi.appstore.metadata.api.maintainer.PersistentAppsService(dslContext, applicationUrlService,
+                event -> {});
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        container.stop();
+    }
+
+    @Benchmark
+    public StbApplicationsList stbNameSearch() {
+        return stbAppsService.listApplications(nextSearchTerm(nameSearchTerms), null, null, null, null, null, null, 0, 10, null, null);
+    }
+
+    @Benchmark
+    public StbApplicationsList stbNameSearchForVersion() {
+        return stbAppsService.listApplications(nextSearchTerm(nameSearchTerms), null, "1.1.0", null, null, null, null, 0, 10, null, null);
+    }
+
+    @Benchmark
+    public MaintainerApplicationsList maintainerNameSearch() {
+        return maintainerAppsService.listApplications(MAINTAINER_CODE, nextSearchTerm(nameSearchTerms), null, null, null, null, null, 0, 10, null, null);
+    }
+
+    @Benchmark
+    public MaintainerApplicationsList maintainerDescriptionSearch() {
+        return maintainerAppsService.listApplications(MAINTAINER_CODE, null, nextSearchTerm(descriptionSearchTerms), null, null, null, null, 0, 10, null, null);
+    }
+
+    private String nextSearchTerm(List<String> searchTerms) {
+        searchTermIndex = (searchTermIndex + 1) % searchTerms.size();
+        return searchTerms.get(searchTermIndex);
+    }
+}
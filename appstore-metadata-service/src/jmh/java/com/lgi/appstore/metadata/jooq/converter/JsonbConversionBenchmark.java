@@ -0,0 +1,90 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.jooq.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.util.ObjectMapperFactory;
+import org.jooq.JSONB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonbConversionBenchmark {
+
+    private static final int ROWS = 500;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+    private final LocalizationsConverter localizationsConverter = new LocalizationsConverter();
+    private final PlatformConverter platformConverter = new PlatformConverter();
+
+    private List<JSONB> localizations;
+    private List<JSONB> platforms;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        localizations = IntStream.range(0, ROWS)
+                .mapToObj(i -> JSONB.valueOf("[{\"languageCode\":\"en\",\"name\":\"Application " + i + "\",\"description\":\"Description of application " + i + "\"},"
+                        + "{\"languageCode\":\"nl\",\"name\":\"Applicatie " + i + "\",\"description\":\"Beschrijving van applicatie " + i + "\"}]"))
+                .collect(Collectors.toList());
+        platforms = IntStream.range(0, ROWS)
+                .mapToObj(i -> JSONB.valueOf("{\"architecture\":\"arm\",\"variant\":\"v" + i % 8 + "\",\"os\":\"linux\"}"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void textRoundTrip(Blackhole blackhole) throws JsonProcessingException {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(objectMapper.readValue(localizations.get(i).data(), new TypeReference<List<Localization>>() {
+            }));
+            blackhole.consume(objectMapper.readValue(platforms.get(i).data(), Platform.class));
+        }
+    }
+
+    @Benchmark
+    public void converters(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(localizationsConverter.from(localizations.get(i)));
+            blackhole.consume(platformConverter.from(platforms.get(i)));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import com.lgi.appstore.metadata.model.Localization;
+import org.jooq.DSLContext;
+import org.jooq.Record10;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.lgi.appstore.metadata.jooq.model.tables.Application.APPLICATION;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationPreferredHelperBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    private Result<Record10<String, String, String, String, String, String, Integer, String, List<Localization>, Boolean>> result;
+
+    @Setup
+    public void setup() {
+        final DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+        final Random random = new Random(rows);
+        result = dslContext.newResult(APPLICATION.ID_RDOMAIN,
+                APPLICATION.VERSION,
+                APPLICATION.ICON,
+                APPLICATION.NAME,
+                APPLICATION.DESCRIPTION,
+                APPLICATION.TYPE,
+                APPLICATION.SIZE,
+                APPLICATION.CATEGORY,
+                APPLICATION.LOCALIZATIONS,
+                APPLICATION.PREFERRED);
+
+        // roughly one application in five has a preferred version next to its latest one
+        for (int i = 0; i < rows; i++) {
+            final String applicationId = "com.lgi.app" + random.nextInt(Math.max(1, rows * 4 / 5));
+            final Record10<String, String, String, String, String, String, Integer, String, List<Localization>, Boolean> record =
+                    dslContext.newRecord(APPLICATION.ID_RDOMAIN,
+                            APPLICATION.VERSION,
+                            APPLICATION.ICON,
+                            APPLICATION.NAME,
+                            APPLICATION.DESCRIPTION,
+                            APPLICATION.TYPE,
+                            APPLICATION.SIZE,
+                            APPLICATION.CATEGORY,
+                            APPLICATION.LOCALIZATIONS,
+                            APPLICATION.PREFERRED);
+            record.values(applicationId, "1.0." + i, "icon", "name", "description", "application/vnd.rdk-app.dac.native", 1000, "application",
+                    List.of(), random.nextInt(5) == 0);
+            result.add(record);
+        }
+    }
+
+    @Benchmark
+    public List<Record10<String, String, String, String, String, String, Integer, String, List<Localization>, Boolean>> singlePass() {
+        return ApplicationPreferredHelper.matchByPreferredVersion(result);
+    }
+
+    @Benchmark
+    public List<Record10<String, String, String, String, String, String, Integer, String, List<Localization>, Boolean>> pairwise() {
+        return result.stream()
+                .filter(record1 -> result.stream()
+                        .filter(record2 -> record1 != record2)
+                        .noneMatch(record2 -> record1.get(APPLICATION.ID_RDOMAIN).equals(record2.get(APPLICATION.ID_RDOMAIN))
+                                && record2.get(APPLICATION.PREFERRED).equals(true))
+                ).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.lgi.appstore.metadata.model.JsonObjectNames;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonProcessorHelperBenchmark {
+
+    private static final String LOCALIZATIONS_JSON = "[{\"languageCode\":\"en\",\"name\":\"Application\",\"description\":\"Description of application\"},"
+            + "{\"languageCode\":\"nl\",\"name\":\"Applicatie\",\"description\":\"Beschrijving van applicatie\"}]";
+    private static final String PLATFORM_JSON = "{\"architecture\":\"arm\",\"variant\":\"v7\",\"os\":\"linux\"}";
+
+    private final JsonProcessorHelper jsonProcessorHelper = new JsonProcessorHelper(ObjectMapperFactory.create());
+
+    @Benchmark
+    public List<Localization> localizationsWithTypeReference() {
+        return jsonProcessorHelper.readValue(JsonObjectNames.LOCALIZATIONS, LOCALIZATIONS_JSON, new TypeReference<List<Localization>>() {
+        });
+    }
+
+    @Benchmark
+    public List<Localization> localizationsWithTargetReader() {
+        return jsonProcessorHelper.readValue(JsonObjectNames.LOCALIZATIONS, LOCALIZATIONS_JSON);
+    }
+
+    @Benchmark
+    public Platform platformWithClass() {
+        return jsonProcessorHelper.readValue(JsonObjectNames.PLATFORM, PLATFORM_JSON, Platform.class);
+    }
+
+    @Benchmark
+    public Platform platformWithTargetReader() {
+        return jsonProcessorHelper.readValue(JsonObjectNames.PLATFORM, PLATFORM_JSON);
+    }
+}
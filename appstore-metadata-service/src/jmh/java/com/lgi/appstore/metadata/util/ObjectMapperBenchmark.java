@@ -0,0 +1,101 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.Meta;
+import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.model.StbApplicationsList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int applications;
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private ObjectMapper objectMapper;
+    private StbApplicationsList applicationsList;
+    private byte[] applicationsListJson;
+
+    @Setup(Level.Trial)
+    public void setup() throws JsonProcessingException {
+        objectMapper = ObjectMapperFactory.create(blackbird);
+        applicationsList = new StbApplicationsList()
+                .applications(IntStream.range(0, applications)
+                        .mapToObj(ObjectMapperBenchmark::applicationHeader)
+                        .collect(Collectors.toList()))
+                .meta(new Meta().resultSet(new ResultSetMeta().offset(0).limit(applications).count(applications).total(applications)));
+        applicationsListJson = objectMapper.writeValueAsBytes(applicationsList);
+    }
+
+    @Benchmark
+    public byte[] serializeApplicationsList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(applicationsList);
+    }
+
+    @Benchmark
+    public StbApplicationsList deserializeApplicationsList() throws IOException {
+        return objectMapper.readValue(applicationsListJson, StbApplicationsList.class);
+    }
+
+    private static StbApplicationHeader applicationHeader(int index) {
+        return new StbApplicationHeader()
+                .id("com.lgi.benchmark" + index)
+                .version("1." + index % 20 + ".0")
+                .icon("https://images.example.com/" + index + "/icon.png")
+                .name("Application " + index)
+                .description("Description of benchmark application number " + index)
+                .type("application/vnd.rdk-app.dac.native")
+                .size(10000000 + index)
+                .category(Category.APPLICATION)
+                .localization(List.of(
+                        new Localization().languageCode("en").name("Application " + index).description("Application number " + index),
+                        new Localization().languageCode("nl").name("Applicatie " + index).description("Applicatie nummer " + index)));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.catalog;
+
+import com.lgi.appstore.metadata.util.ApplicationChangeHelper;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ApplicationChangePruner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationChangePruner.class);
+
+    private final DSLContext dslContext;
+    private final Duration retention;
+    private final Duration pruneInterval;
+    private final ScheduledExecutorService pruneExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "application-change-prune");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public ApplicationChangePruner(DSLContext dslContext,
+                                   @Value("${stbCatalog.changes.retention}") Duration retention,
+                                   @Value("${stbCatalog.changes.pruneInterval}") Duration pruneInterval) {
+        this.dslContext = dslContext;
+        this.retention = retention;
+        this.pruneInterval = pruneInterval;
+    }
+
+    @PostConstruct
+    public void schedulePrune() {
+        final long pruneIntervalMillis = pruneInterval.toMillis();
+        pruneExecutor.scheduleWithFixedDelay(this::pruneQuietly, pruneIntervalMillis, pruneIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pruneExecutor.shutdownNow();
+    }
+
+    public int prune() {
+        final OffsetDateTime changedBefore = OffsetDateTime.now().minus(retention);
+        return dslContext.transactionResult(configuration -> ApplicationChangeHelper.prune(DSL.using(configuration), changedBefore));
+    }
+
+    private void pruneQuietly() {
+        try {
+            final int pruned = prune();
+            LOG.info("Pruned {} application changes older than {}", pruned, retention);
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to prune application changes", e);
+        }
+    }
+}
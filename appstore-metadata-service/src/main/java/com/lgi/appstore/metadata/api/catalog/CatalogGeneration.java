@@ -0,0 +1,70 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.catalog;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public final class CatalogGeneration {
+
+    private final long generation;
+    private final Instant modifiedAt;
+
+    public CatalogGeneration(long generation, Instant modifiedAt) {
+        this.generation = generation;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Instant getModifiedAt() {
+        return modifiedAt;
+    }
+
+    public String getETag() {
+        return "\"" + generation + "\"";
+    }
+
+    public String getGzipETag() {
+        return "\"" + generation + "-gzip\"";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CatalogGeneration that = (CatalogGeneration) o;
+        return generation == that.generation && Objects.equals(modifiedAt, that.modifiedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(generation, modifiedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogGeneration{" +
+                "generation=" + generation +
+                ", modifiedAt=" + modifiedAt +
+                '}';
+    }
+}
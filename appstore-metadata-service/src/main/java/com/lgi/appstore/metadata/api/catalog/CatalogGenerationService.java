@@ -0,0 +1,77 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.catalog;
+
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
+import com.lgi.appstore.metadata.util.CatalogGenerationHelper;
+import org.jooq.DSLContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class CatalogGenerationService {
+
+    private final DSLContext dslContext;
+    private final long maxAgeNanos;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private volatile FetchedGeneration fetchedGeneration;
+
+    @Autowired
+    public CatalogGenerationService(DSLContext dslContext, @Value("${stbCatalog.generation.maxAge}") Duration maxAge) {
+        this.dslContext = dslContext;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public CatalogGeneration currentGeneration() {
+        final FetchedGeneration lastFetchedGeneration = fetchedGeneration;
+        final long now = System.nanoTime();
+        if (lastFetchedGeneration != null && now - lastFetchedGeneration.fetchedAtNanos < maxAgeNanos) {
+            return lastFetchedGeneration.generation;
+        }
+        final long invalidationsBeforeFetch = invalidations.get();
+        final CatalogGeneration currentGeneration = CatalogGenerationHelper.fetch(dslContext);
+        if (invalidations.get() == invalidationsBeforeFetch) {
+            fetchedGeneration = new FetchedGeneration(currentGeneration, now);
+        }
+        return currentGeneration;
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        invalidations.incrementAndGet();
+        fetchedGeneration = null;
+    }
+
+    private static final class FetchedGeneration {
+
+        private final CatalogGeneration generation;
+        private final long fetchedAtNanos;
+
+        private FetchedGeneration(CatalogGeneration generation, long fetchedAtNanos) {
+            this.generation = generation;
+            this.fetchedAtNanos = fetchedAtNanos;
+        }
+    }
+}
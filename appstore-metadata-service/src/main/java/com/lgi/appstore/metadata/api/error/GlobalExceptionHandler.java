@@ -62,7 +62,13 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return handleGenericResponse(ex, HttpStatus.CONFLICT, request);
     }
 
-    @ExceptionHandler({MandatoryFieldForNativeAppNotFound.class, UnsupportedApplicationTypeException.class})
+    @ExceptionHandler(ExpiredChangesTokenException.class)
+    public ResponseEntity<Object> handleGone(Exception ex, WebRequest request) {
+        return handleGenericResponse(ex, HttpStatus.GONE, request);
+    }
+
+    @ExceptionHandler({MandatoryFieldForNativeAppNotFound.class, UnsupportedApplicationTypeException.class, InvalidChangesTokenException.class,
+            InvalidApplicationIdException.class, InvalidApplicationImportException.class})
     public ResponseEntity<Object> handleBadRequest(Exception ex, WebRequest request) {
         return handleGenericResponse(ex, HttpStatus.BAD_REQUEST, request);
     }
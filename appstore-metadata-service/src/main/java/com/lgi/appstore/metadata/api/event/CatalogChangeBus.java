@@ -0,0 +1,267 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.event;
+
+import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Component
+@ConditionalOnProperty(name = "catalogInvalidation.enabled", havingValue = "true")
+public class CatalogChangeBus {
+
+    static final String LISTENER_APPLICATION_NAME = "appstore-metadata-service-catalog-listener";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogChangeBus.class);
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private final DSLContext dslContext;
+    private final DataSourceProperties dataSourceProperties;
+    private final JsonProcessorHelper jsonProcessorHelper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Thread listenerThread = new Thread(this::listen, "catalog-change-listener");
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Connection listenerConnection;
+
+    @Autowired
+    public CatalogChangeBus(DSLContext dslContext,
+                            DataSourceProperties dataSourceProperties,
+                            JsonProcessorHelper jsonProcessorHelper,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${catalogInvalidation.channel}") String channel,
+                            @Value("${catalogInvalidation.pollTimeout}") Duration pollTimeout,
+                            @Value("${catalogInvalidation.reconnectDelay}") Duration reconnectDelay) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException(String.format("Invalid catalog invalidation channel name '%s'", channel));
+        }
+        this.dslContext = dslContext;
+        this.dataSourceProperties = dataSourceProperties;
+        this.jsonProcessorHelper = jsonProcessorHelper;
+        this.eventPublisher = eventPublisher;
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        listenerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        listenerThread.interrupt();
+        closeQuietly(listenerConnection);
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.isRemote() || event.isEmpty()) {
+            return;
+        }
+        try {
+            dslContext.select(DSL.function("pg_notify", Object.class, DSL.val(channel), DSL.val(toPayload(event)))).fetch();
+        } catch (DataAccessException e) {
+            LOG.warn("Unable to notify other nodes about {}", event, e);
+        }
+    }
+
+    boolean isListening() {
+        return listening;
+    }
+
+    String toPayload(CatalogChangedEvent event) {
+        final String payload = jsonProcessorHelper.writeValueAsString("catalogChange",
+                new CatalogChangeMessage(nodeId, event.getApplicationIds(), event.isWholeCatalog()));
+        if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+            return payload;
+        }
+        return jsonProcessorHelper.writeValueAsString("catalogChange", new CatalogChangeMessage(nodeId, Collections.emptySet(), true));
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = connect()) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                listening = true;
+                LOG.info("Listening for catalog changes on channel '{}'", channel);
+                if (reconnecting) {
+                    LOG.info("Catalog change notifications may have been missed, invalidating the whole catalog");
+                    eventPublisher.publishEvent(CatalogChangedEvent.forWholeCatalog().asRemote());
+                }
+                reconnecting = true;
+                receive(connection);
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    LOG.warn("Catalog change listener failed, reconnecting in {}", reconnectDelay, e);
+                }
+            } finally {
+                listening = false;
+                listenerConnection = null;
+            }
+            pauseBeforeReconnect();
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        final Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        properties.setProperty("password", dataSourceProperties.determinePassword());
+        properties.setProperty("ApplicationName", LISTENER_APPLICATION_NAME);
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        final int pollTimeoutMillis = (int) pollTimeout.toMillis();
+        while (running) {
+            final PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (!connection.isValid(Math.max(1, pollTimeoutMillis / 1000))) {
+                    throw new SQLException("Catalog change listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                onNotification(notification.getParameter());
+            }
+        }
+    }
+
+    private void onNotification(String payload) {
+        CatalogChangedEvent event;
+        try {
+            final CatalogChangeMessage message = jsonProcessorHelper.readValue("catalogChange", payload, CatalogChangeMessage.class);
+            if (nodeId.equals(message.getNodeId())) {
+                return;
+            }
+            event = message.isWholeCatalog() || message.getApplicationIds() == null
+                    ? CatalogChangedEvent.forWholeCatalog()
+                    : CatalogChangedEvent.forApplications(message.getApplicationIds());
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to read catalog change notification '{}', invalidating the whole catalog", payload, e);
+            event = CatalogChangedEvent.forWholeCatalog();
+        }
+        LOG.debug("Received {} from another node", event);
+        eventPublisher.publishEvent(event.asRemote());
+    }
+
+    private void pauseBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOG.debug("Unable to close catalog change listener connection", e);
+        }
+    }
+
+    static final class CatalogChangeMessage {
+
+        private String nodeId;
+        private Set<String> applicationIds;
+        private boolean wholeCatalog;
+
+        CatalogChangeMessage() {
+        }
+
+        CatalogChangeMessage(String nodeId, Set<String> applicationIds, boolean wholeCatalog) {
+            this.nodeId = nodeId;
+            this.applicationIds = applicationIds;
+            this.wholeCatalog = wholeCatalog;
+        }
+
+        public String getNodeId() {
+            return nodeId;
+        }
+
+        public void setNodeId(String nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        public Set<String> getApplicationIds() {
+            return applicationIds;
+        }
+
+        public void setApplicationIds(Set<String> applicationIds) {
+            this.applicationIds = applicationIds;
+        }
+
+        public boolean isWholeCatalog() {
+            return wholeCatalog;
+        }
+
+        public void setWholeCatalog(boolean wholeCatalog) {
+            this.wholeCatalog = wholeCatalog;
+        }
+    }
+}
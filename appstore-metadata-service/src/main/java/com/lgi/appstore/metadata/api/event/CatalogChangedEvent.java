@@ -0,0 +1,96 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class CatalogChangedEvent {
+
+    private final Set<String> applicationIds;
+    private final boolean wholeCatalog;
+    private final boolean remote;
+
+    private CatalogChangedEvent(Set<String> applicationIds, boolean wholeCatalog, boolean remote) {
+        this.applicationIds = applicationIds;
+        this.wholeCatalog = wholeCatalog;
+        this.remote = remote;
+    }
+
+    public static CatalogChangedEvent forApplication(String applicationId) {
+        return forApplications(Collections.singleton(applicationId));
+    }
+
+    public static CatalogChangedEvent forApplications(Collection<String> applicationIds) {
+        return new CatalogChangedEvent(Collections.unmodifiableSet(new TreeSet<>(applicationIds)), false, false);
+    }
+
+    public static CatalogChangedEvent forWholeCatalog() {
+        return new CatalogChangedEvent(Collections.emptySet(), true, false);
+    }
+
+    public CatalogChangedEvent asRemote() {
+        return new CatalogChangedEvent(applicationIds, wholeCatalog, true);
+    }
+
+    public Set<String> getApplicationIds() {
+        return applicationIds;
+    }
+
+    public boolean isWholeCatalog() {
+        return wholeCatalog;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+
+    public boolean affects(String applicationId) {
+        return wholeCatalog || applicationIds.contains(applicationId);
+    }
+
+    public boolean isEmpty() {
+        return !wholeCatalog && applicationIds.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CatalogChangedEvent that = (CatalogChangedEvent) o;
+        return wholeCatalog == that.wholeCatalog && remote == that.remote && Objects.equals(applicationIds, that.applicationIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(applicationIds, wholeCatalog, remote);
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogChangedEvent{" +
+                "applicationIds=" + applicationIds +
+                ", wholeCatalog=" + wholeCatalog +
+                ", remote=" + remote +
+                '}';
+    }
+}
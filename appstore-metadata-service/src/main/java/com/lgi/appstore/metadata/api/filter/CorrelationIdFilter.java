@@ -20,6 +20,8 @@ package com.lgi.appstore.metadata.api.filter;
 
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -31,6 +33,7 @@ import java.io.IOException;
 import java.util.UUID;
 
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class CorrelationIdFilter extends OncePerRequestFilter {
 
     private static final String X_REQUEST_ID_HEADER_NAME = "x-request-id";
@@ -0,0 +1,45 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.filter;
+
+import org.slf4j.Logger;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+public final class PayloadLogHelper {
+
+    static final String PAYLOAD_LOGGING_ATTRIBUTE = PayloadLogHelper.class.getName() + ".payloadLogging";
+
+    private PayloadLogHelper() {
+    }
+
+    public static void logPayload(Logger log, Object payload) {
+        if (log.isDebugEnabled()) {
+            log.debug("Returning: {}", payload);
+        } else if (isRequested()) {
+            log.info("Returning: {}", payload);
+        }
+    }
+
+    private static boolean isRequested() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes != null
+                && Boolean.TRUE.equals(requestAttributes.getAttribute(PAYLOAD_LOGGING_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
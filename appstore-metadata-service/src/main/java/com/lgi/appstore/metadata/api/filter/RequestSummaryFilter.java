@@ -0,0 +1,178 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestSummaryFilter extends OncePerRequestFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestSummaryFilter.class);
+
+    static final String X_DEBUG_PAYLOAD_HEADER_NAME = "x-debug-payload";
+
+    private final double sampleRate;
+    private final boolean payloadHeaderEnabled;
+
+    public RequestSummaryFilter(@Value("${requestSummary.sampleRate}") double sampleRate,
+                                @Value("${requestSummary.payloadHeader.enabled}") boolean payloadHeaderEnabled) {
+        this.sampleRate = sampleRate;
+        this.payloadHeaderEnabled = payloadHeaderEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest httpServletRequest,
+                                    HttpServletResponse httpServletResponse,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (payloadHeaderEnabled && Boolean.parseBoolean(httpServletRequest.getHeader(X_DEBUG_PAYLOAD_HEADER_NAME))) {
+            httpServletRequest.setAttribute(PayloadLogHelper.PAYLOAD_LOGGING_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        final long startNanos = System.nanoTime();
+        final CountingResponseWrapper countingResponse = new CountingResponseWrapper(httpServletResponse);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(httpServletRequest, countingResponse);
+            failed = false;
+        } finally {
+            final long bytesWritten = countingResponse.finish();
+            final int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : countingResponse.getStatus();
+            if (status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                LOG.info("Request summary: {} {} {} {} {} {}",
+                        kv("method", httpServletRequest.getMethod()),
+                        kv("path", httpServletRequest.getRequestURI()),
+                        kv("status", status),
+                        kv("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)),
+                        kv("responseBytes", bytesWritten),
+                        kv("sampleRate", sampleRate));
+            }
+        }
+    }
+
+    static class CountingResponseWrapper extends HttpServletResponseWrapper {
+
+        private CountingOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+
+        long finish() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return getBytesWritten();
+        }
+
+        long getBytesWritten() {
+            return outputStream != null ? outputStream.bytesWritten : 0;
+        }
+    }
+
+    private static class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private long bytesWritten;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            bytesWritten++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            bytesWritten += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -19,16 +19,20 @@
 package com.lgi.appstore.metadata.api.maintainer;
 
 import com.lgi.appstore.metadata.model.Application;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.ApplicationForUpdate;
+import com.lgi.appstore.metadata.model.ApplicationImportResults;
 import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.IncludeTotal;
 import com.lgi.appstore.metadata.model.MaintainerApplicationDetails;
 import com.lgi.appstore.metadata.model.MaintainerApplicationsList;
 import com.lgi.appstore.metadata.model.Platform;
 
+import java.util.Iterator;
 import java.util.Optional;
 
 public interface AppsService {
-    MaintainerApplicationsList listApplications(String maintainerCode, String name, String description, String version, String type, Platform platform, Category category, Integer offset, Integer limit);
+    MaintainerApplicationsList listApplications(String maintainerCode, String name, String description, String version, String type, Platform platform, Category category, Integer offset, Integer limit, ApplicationCursor cursor, IncludeTotal includeTotal);
 
     Optional<MaintainerApplicationDetails> getApplicationDetails(String maintainerCode, String appId, String version, String platformName, String firmwareVer);
 
@@ -36,6 +40,8 @@ public interface AppsService {
 
     void addApplication(String maintainerCode, Application application);
 
+    ApplicationImportResults importApplications(String maintainerCode, Iterator<Application> applications);
+
     boolean updateLatestApplication(String maintainerCode, String appId, ApplicationForUpdate applicationForUpdate);
 
     boolean updateApplication(String maintainerCode, String appId, String version, ApplicationForUpdate applicationForUpdate);
@@ -18,10 +18,18 @@
  */
 package com.lgi.appstore.metadata.api.maintainer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lgi.appstore.metadata.api.error.InvalidApplicationImportException;
+import com.lgi.appstore.metadata.api.filter.PayloadLogHelper;
 import com.lgi.appstore.metadata.model.AppIdWithVersion;
 import com.lgi.appstore.metadata.model.Application;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.ApplicationForUpdate;
+import com.lgi.appstore.metadata.model.ApplicationImportResults;
 import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.IncludeTotal;
 import com.lgi.appstore.metadata.model.MaintainerApplicationDetails;
 import com.lgi.appstore.metadata.model.MaintainerApplicationsList;
 import com.lgi.appstore.metadata.model.Platform;
@@ -40,8 +48,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/maintainers/{maintainerCode}")
@@ -50,6 +66,12 @@ class MaintainerAppsController {
     @Autowired
     private AppsService appsService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
     private static final Logger LOG = LoggerFactory.getLogger(MaintainerAppsController.class);
 
     @GetMapping(value = "/apps/{appId:.+}",
@@ -67,7 +89,7 @@ class MaintainerAppsController {
                 ? appsService.getApplicationDetails(maintainerCode, appIdWithVersion.getAppId(), platformName, firmwareVer)
                 : appsService.getApplicationDetails(maintainerCode, appIdWithVersion.getAppId(), appIdWithVersion.getVersion(), platformName, firmwareVer);
 
-        LOG.info("Returning: {}", applicationDetails);
+        PayloadLogHelper.logPayload(LOG, applicationDetails);
 
         return applicationDetails.map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -83,14 +105,17 @@ class MaintainerAppsController {
                                                                        @Valid @RequestParam(value = "platform", required = false) Platform platform,
                                                                        @Valid @RequestParam(value = "category", required = false) Category category,
                                                                        @Valid @RequestParam(value = "offset", required = false) Integer offset,
-                                                                       @Valid @RequestParam(value = "limit", required = false) Integer limit) {
+                                                                       @Valid @RequestParam(value = "limit", required = false) Integer limit,
+                                                                       @Valid @RequestParam(value = "cursor", required = false) ApplicationCursor cursor,
+                                                                       @Valid @RequestParam(value = "includeTotal", required = false) IncludeTotal includeTotal) {
 
-        LOG.info("GET /maintainers/{maintainerCode}/apps called with the following parameters: maintainerCode = '{}', name = '{}', description = '{}', version = '{}', type = '{}', platform = '{}', category = '{}', offset = '{}', limit = '{}'",
-                maintainerCode, name, description, version, type, platform, category, offset, limit);
+        LOG.info("GET /maintainers/{maintainerCode}/apps called with the following parameters: maintainerCode = '{}', name = '{}', description = '{}', version = '{}', type = '{}', platform = '{}', category = '{}', offset = '{}', limit = '{}', cursor = '{}', includeTotal = '{}'",
+                maintainerCode, name, description, version, type, platform, category, offset, limit, cursor, includeTotal);
 
-        final MaintainerApplicationsList applicationsList = appsService.listApplications(maintainerCode, name, description, version, type, platform, category, offset, limit);
+        final MaintainerApplicationsList applicationsList = appsService.listApplications(maintainerCode, name, description, version, type, platform, category, offset, limit, cursor, includeTotal);
 
-        LOG.info("Returning: {}", applicationsList);
+        LOG.info("Returning {} applications", applicationsList.getApplications().size());
+        PayloadLogHelper.logPayload(LOG, applicationsList);
 
         return ResponseEntity.ok(applicationsList);
     }
@@ -107,6 +132,23 @@ class MaintainerAppsController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PostMapping(value = "/apps:bulk",
+            consumes = {"application/json", "application/x-ndjson"},
+            produces = {"application/json"})
+    public ResponseEntity<ApplicationImportResults> importApplications(@PathVariable("maintainerCode") String maintainerCode,
+                                                                       InputStream applications) throws IOException {
+
+        LOG.info("POST /maintainers/{maintainerCode}/apps:bulk called with the following parameters: maintainerCode = '{}'", maintainerCode);
+
+        try (MappingIterator<Application> applicationIterator = objectMapper.readerFor(Application.class).readValues(applications)) {
+            final ApplicationImportResults importResults = appsService.importApplications(maintainerCode, new ValidatingApplicationIterator(applicationIterator, validator));
+
+            LOG.info("Returning results of {} imported applications", importResults.getResults().size());
+
+            return ResponseEntity.ok(importResults);
+        }
+    }
+
     @PutMapping(value = "/apps/{appId:.+}",
             produces = {"application/json"})
     public ResponseEntity<Void> updateApplication(@PathVariable("maintainerCode") String maintainerCode,
@@ -148,4 +190,50 @@ class MaintainerAppsController {
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.notFound().build();
     }
-}
\ No newline at end of file
+
+    private static class ValidatingApplicationIterator implements Iterator<Application> {
+
+        private final MappingIterator<Application> applicationIterator;
+        private final Validator validator;
+        private int index;
+
+        ValidatingApplicationIterator(MappingIterator<Application> applicationIterator, Validator validator) {
+            this.applicationIterator = applicationIterator;
+            this.validator = validator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return applicationIterator.hasNextValue();
+            } catch (JsonProcessingException e) {
+                throw new InvalidApplicationImportException(index, e.getOriginalMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Application next() {
+            final Application application;
+            try {
+                application = applicationIterator.nextValue();
+            } catch (JsonProcessingException e) {
+                throw new InvalidApplicationImportException(index, e.getOriginalMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            final Set<ConstraintViolation<Application>> violations = validator.validate(application);
+            if (!violations.isEmpty()) {
+                throw new InvalidApplicationImportException(index, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.toList())
+                        .toString());
+            }
+            index++;
+            return application;
+        }
+    }
+}
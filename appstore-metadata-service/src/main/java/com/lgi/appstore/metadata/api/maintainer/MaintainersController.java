@@ -18,6 +18,8 @@
  */
 package com.lgi.appstore.metadata.api.maintainer;
 
+import com.lgi.appstore.metadata.api.filter.PayloadLogHelper;
+import com.lgi.appstore.metadata.model.IncludeTotal;
 import com.lgi.appstore.metadata.model.Maintainer;
 import com.lgi.appstore.metadata.model.MaintainerForUpdate;
 import com.lgi.appstore.metadata.model.MaintainerList;
@@ -55,7 +57,7 @@ public class MaintainersController {
 
         final Maintainer maintainer = maintainersService.getMaintainer(maintainerCode);
 
-        LOG.info("Returning: {}", maintainer);
+        PayloadLogHelper.logPayload(LOG, maintainer);
 
         return ResponseEntity.ok(maintainer);
     }
@@ -99,9 +101,10 @@ public class MaintainersController {
     @GetMapping(produces = {"application/json"})
     public ResponseEntity<MaintainerList> searchMaintainers(@RequestParam(value = "name", required = false) String name,
                                                             @RequestParam(value = "limit", required = false) Integer limit,
-                                                            @RequestParam(value = "offset", required = false) Integer offset) {
-        LOG.info("GET /maintainers called with the following parameters: name = '{}, limit = '{}', offset = '{}'", name, limit, offset);
+                                                            @RequestParam(value = "offset", required = false) Integer offset,
+                                                            @RequestParam(value = "includeTotal", required = false) IncludeTotal includeTotal) {
+        LOG.info("GET /maintainers called with the following parameters: name = '{}, limit = '{}', offset = '{}', includeTotal = '{}'", name, limit, offset, includeTotal);
 
-        return ResponseEntity.ok(maintainersService.searchMaintainers(name, limit, offset));
+        return ResponseEntity.ok(maintainersService.searchMaintainers(name, limit, offset, includeTotal));
     }
 }
@@ -18,6 +18,7 @@
  */
 package com.lgi.appstore.metadata.api.maintainer;
 
+import com.lgi.appstore.metadata.model.IncludeTotal;
 import com.lgi.appstore.metadata.model.Maintainer;
 import com.lgi.appstore.metadata.model.MaintainerForUpdate;
 import com.lgi.appstore.metadata.model.MaintainerList;
@@ -32,5 +33,5 @@ public interface MaintainersService {
 
     boolean deleteMaintainer(String maintainerCode);
 
-    MaintainerList searchMaintainers(String name, Integer limit, Integer offset);
+    MaintainerList searchMaintainers(String name, Integer limit, Integer offset, IncludeTotal includeTotal);
 }
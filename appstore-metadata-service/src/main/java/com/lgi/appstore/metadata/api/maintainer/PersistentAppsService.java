@@ -19,13 +19,21 @@
 package com.lgi.appstore.metadata.api.maintainer;
 
 import com.lgi.appstore.metadata.api.error.ApplicationAlreadyExistsException;
+import com.lgi.appstore.metadata.api.error.InvalidApplicationImportException;
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
 import com.lgi.appstore.metadata.api.error.MaintainerNotFoundException;
 import com.lgi.appstore.metadata.api.mapper.MaintainerApplicationDetailsMapper;
 import com.lgi.appstore.metadata.api.mapper.MaintainerApplicationHeaderMapper;
+import com.lgi.appstore.metadata.jooq.model.tables.records.ApplicationRecord;
 import com.lgi.appstore.metadata.model.Application;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.ApplicationForUpdate;
+import com.lgi.appstore.metadata.model.ApplicationImportResult;
+import com.lgi.appstore.metadata.model.ApplicationImportResults;
+import com.lgi.appstore.metadata.model.ApplicationImportStatus;
 import com.lgi.appstore.metadata.model.Category;
-import com.lgi.appstore.metadata.model.JsonObjectNames;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Localization;
 import com.lgi.appstore.metadata.model.MaintainerApplicationDetails;
 import com.lgi.appstore.metadata.model.MaintainerApplicationHeader;
 import com.lgi.appstore.metadata.model.MaintainerApplicationsList;
@@ -33,35 +41,46 @@ import com.lgi.appstore.metadata.model.MaintainerVersion;
 import com.lgi.appstore.metadata.model.Meta;
 import com.lgi.appstore.metadata.model.Platform;
 import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.util.ApplicationChangeHelper;
 import com.lgi.appstore.metadata.util.ApplicationPreferredHelper;
+import com.lgi.appstore.metadata.util.ApplicationFilterHelper;
 import com.lgi.appstore.metadata.util.ApplicationUrlService;
-import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import com.lgi.appstore.metadata.util.CatalogGenerationHelper;
+import com.lgi.appstore.metadata.util.CursorFetchHelper;
+import com.lgi.appstore.metadata.util.QueryNameHelper;
+import com.lgi.appstore.metadata.util.TotalCountHelper;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
-import org.jooq.JSONB;
+import org.jooq.Field;
+import org.jooq.InsertValuesStepN;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record13;
-import org.jooq.Record2;
 import org.jooq.SelectJoinStep;
 import org.jooq.SortField;
 import org.jooq.Table;
 import org.jooq.impl.DSL;
-import org.jooq.util.postgres.PostgresDSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.lgi.appstore.metadata.jooq.model.Tables.MAINTAINER;
 import static com.lgi.appstore.metadata.jooq.model.tables.Application.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.tables.ApplicationLatest.APPLICATION_LATEST;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 @Primary
@@ -70,24 +89,51 @@ public class PersistentAppsService implements AppsService {
 
     private static final Logger LOG = LoggerFactory.getLogger(PersistentAppsService.class);
 
-    private static final String VERSION_PART_DELIMITER = ".";
-    private static final SortField<int[]> VERSION_SORT_FIELD = PostgresDSL.stringToArray(APPLICATION.VERSION, VERSION_PART_DELIMITER)
-            .cast(int[].class)
-            .desc();
+    private static final List<SortField<?>> VERSION_ORDER = List.of(
+            APPLICATION.VERSION_CORE.desc().nullsLast(),
+            APPLICATION.VERSION_PRE.desc().nullsFirst(),
+            APPLICATION.ID.desc());
+    private static final List<SortField<?>> PREFERRED_VERSION_ORDER = List.of(
+            APPLICATION.ID_RDOMAIN.asc(),
+            APPLICATION.PREFERRED.desc(),
+            APPLICATION.ID.asc());
+
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final List<Field<?>> APPLICATION_INSERT_FIELDS = List.of(
+            APPLICATION.MAINTAINER_ID,
+            APPLICATION.ID_RDOMAIN,
+            APPLICATION.VERSION,
+            APPLICATION.VISIBLE,
+            APPLICATION.ENCRYPTION,
+            APPLICATION.PREFERRED,
+            APPLICATION.OCI_IMAGE_URL,
+            APPLICATION.NAME,
+            APPLICATION.DESCRIPTION,
+            APPLICATION.ICON,
+            APPLICATION.TYPE,
+            APPLICATION.SIZE,
+            APPLICATION.CATEGORY,
+            APPLICATION.PLATFORM,
+            APPLICATION.HARDWARE,
+            APPLICATION.FEATURES,
+            APPLICATION.DEPENDENCIES,
+            APPLICATION.LOCALIZATIONS);
 
     private final DSLContext dslContext;
-    private final JsonProcessorHelper jsonProcessorHelper;
     private final ApplicationUrlService applicationUrlService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public PersistentAppsService(DSLContext dslContext, JsonProcessorHelper jsonProcessorHelper, ApplicationUrlService applicationUrlService) {
+    public PersistentAppsService(DSLContext dslContext,
+                                 ApplicationUrlService applicationUrlService,
+                                 ApplicationEventPublisher eventPublisher) {
         this.dslContext = dslContext;
-        this.jsonProcessorHelper = jsonProcessorHelper;
         this.applicationUrlService = applicationUrlService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public MaintainerApplicationsList listApplications(String maintainerCode, String name, String description, String version, String type, Platform platform, Category category, Integer offset, Integer limit) {
+    public MaintainerApplicationsList listApplications(String maintainerCode, String name, String description, String version, String type, Platform platform, Category category, Integer offset, Integer limit, ApplicationCursor cursor, IncludeTotal includeTotal) {
         final Integer maintainerId = dslContext
                 .select(MAINTAINER.ID)
                 .from(MAINTAINER)
@@ -96,7 +142,11 @@ public class PersistentAppsService implements AppsService {
                 .map(integerRecord1 -> integerRecord1.get(MAINTAINER.ID))
                 .orElseThrow(() -> new MaintainerNotFoundException(maintainerCode));
 
-        final SelectJoinStep<Record13<String, String, String, String, String, Boolean, Boolean, Boolean, String, String, Integer, String, JSONB>> from = dslContext
+        final Table<?> applications = version != null ? APPLICATION : latestOrPreferredApplications();
+        final DSLContext listDslContext = QueryNameHelper.named(dslContext, "maintainer.list");
+        final DSLContext countDslContext = QueryNameHelper.named(dslContext, "maintainer.count");
+
+        final SelectJoinStep<Record13<String, String, String, String, String, Boolean, Boolean, Boolean, String, String, Integer, String, List<Localization>>> from = listDslContext
                 .select(
                         APPLICATION.ID_RDOMAIN,
                         APPLICATION.VERSION,
@@ -111,11 +161,16 @@ public class PersistentAppsService implements AppsService {
                         APPLICATION.SIZE,
                         APPLICATION.CATEGORY,
                         APPLICATION.LOCALIZATIONS)
-                .from(APPLICATION);
+                .distinctOn(APPLICATION.ID_RDOMAIN)
+                .from(applications);
+
+        final SelectJoinStep<Record1<Integer>> fromTotal = countDslContext
+                .select(DSL.countDistinct(APPLICATION.ID_RDOMAIN))
+                .from(applications);
 
-        final SelectJoinStep<Record1<Integer>> fromTotal = dslContext
-                .selectCount()
-                .from(APPLICATION);
+        final SelectJoinStep<Record1<String>> fromRows = countDslContext
+                .selectDistinct(APPLICATION.ID_RDOMAIN)
+                .from(applications);
 
         Condition condition = APPLICATION.MAINTAINER_ID.eq(maintainerId);
 
@@ -127,44 +182,35 @@ public class PersistentAppsService implements AppsService {
         }
         if (version != null) {
             condition = condition.and(APPLICATION.VERSION.eq(version));
-        } else {
-            condition = condition.and(DSL.condition(APPLICATION.LATEST.getQualifiedName() + " -> 'maintainer' = 'true'")
-                    .or(APPLICATION.PREFERRED.eq(true)));
         }
         if (type != null) {
             condition = condition.and(APPLICATION.TYPE.contains(type));
         }
         if (platform != null) {
-            if (platform.getArchitecture() != null) {
-                condition = condition.and(DSL.condition(APPLICATION.PLATFORM.getQualifiedName() + " ->> 'architecture' = '" + platform.getArchitecture() + "'"));
-            }
-            if (platform.getVariant() != null) {
-                condition = condition.and(DSL.condition(APPLICATION.PLATFORM.getQualifiedName() + " ->> 'variant' = '" + platform.getVariant() + "'"));
-            }
-            if (platform.getOs() != null) {
-                condition = condition.and(DSL.condition(APPLICATION.PLATFORM.getQualifiedName() + " ->> 'os' = '" + platform.getOs() + "'"));
-            }
+            condition = condition.and(ApplicationFilterHelper.platformCondition(platform));
         }
         if (category != null) {
             condition = condition.and(APPLICATION.CATEGORY.contains(category.toString()));
         }
 
-        final Integer total = fromTotal.where(condition).fetchSingle().component1();
+        final Integer total = TotalCountHelper.total(countDslContext, includeTotal, fromTotal.where(condition), fromRows.where(condition));
 
-        final int effectiveOffset = offset != null ? offset : 0;
+        final int effectiveOffset = cursor == null && offset != null ? offset : 0;
         final int effectiveLimit = limit != null ? limit : 0;
-
+        final Condition pageCondition = cursor != null ? condition.and(APPLICATION.ID_RDOMAIN.gt(cursor.getAppId())) : condition;
 
         var readyToLimit = from
-                .where(condition)
+                .where(pageCondition)
+                .orderBy(PREFERRED_VERSION_ORDER)
                 .offset(effectiveOffset);
 
-        var result = (effectiveLimit != 0 ? readyToLimit.limit(effectiveLimit) : readyToLimit).fetch();
-
-        final List<MaintainerApplicationHeader> applicationHeaderList = ApplicationPreferredHelper.matchByPreferredVersionForListMaintainer(result)
-                .stream()
-                .map(applicationMetadataRecord -> MaintainerApplicationHeaderMapper.map(applicationMetadataRecord, jsonProcessorHelper))
-                .collect(Collectors.toList());
+        final List<MaintainerApplicationHeader> applicationHeaderList = effectiveLimit != 0
+                ? readyToLimit.limit(effectiveLimit + 1).fetch(MaintainerApplicationHeaderMapper::map)
+                : CursorFetchHelper.fetchMapped(listDslContext, readyToLimit, MaintainerApplicationHeaderMapper::map);
+        final boolean hasNextPage = effectiveLimit != 0 && applicationHeaderList.size() > effectiveLimit;
+        if (hasNextPage) {
+            applicationHeaderList.remove(effectiveLimit);
+        }
 
         final Meta meta = new Meta()
                 .resultSet(
@@ -173,6 +219,7 @@ public class PersistentAppsService implements AppsService {
                                 .limit(effectiveLimit)
                                 .count(applicationHeaderList.size())
                                 .total(total)
+                                .nextCursor(hasNextPage ? nextCursor(applicationHeaderList.get(effectiveLimit - 1)) : null)
                 );
 
         return new MaintainerApplicationsList()
@@ -190,7 +237,7 @@ public class PersistentAppsService implements AppsService {
                 .map(integerRecord1 -> integerRecord1.get(MAINTAINER.ID))
                 .orElseThrow(() -> new MaintainerNotFoundException(maintainerCode));
 
-        final List<MaintainerVersion> versions = dslContext
+        final List<MaintainerVersion> versions = QueryNameHelper.named(dslContext, "maintainer.versions")
                 .select(
                         APPLICATION.VERSION,
                         APPLICATION.VISIBLE,
@@ -200,7 +247,7 @@ public class PersistentAppsService implements AppsService {
                 .from(APPLICATION)
                 .where(APPLICATION.ID_RDOMAIN.eq(appId))
                 .and(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                .orderBy(VERSION_SORT_FIELD)
+                .orderBy(VERSION_ORDER)
                 .fetch()
                 .stream()
                 .map(applicationVersionRecord -> new MaintainerVersion()
@@ -210,7 +257,7 @@ public class PersistentAppsService implements AppsService {
                         .encryption(applicationVersionRecord.get(APPLICATION.ENCRYPTION))
                 ).collect(Collectors.toList());
 
-        return dslContext.select(
+        return QueryNameHelper.named(dslContext, "maintainer.details").select(
                         MAINTAINER.CODE,
                         MAINTAINER.NAME,
                         MAINTAINER.ADDRESS,
@@ -245,7 +292,7 @@ public class PersistentAppsService implements AppsService {
                 .fetchOptional()
                 .map(applicationMetadataRecord -> {
                     final String url = createApplicationUrlFromApplicationRecord(applicationMetadataRecord, platformName, firmwareVer);
-                    return MaintainerApplicationDetailsMapper.map(applicationMetadataRecord, versions, jsonProcessorHelper, url);
+                    return MaintainerApplicationDetailsMapper.map(applicationMetadataRecord, versions, url);
                 });
     }
 
@@ -258,7 +305,7 @@ public class PersistentAppsService implements AppsService {
                 .map(integerRecord1 -> integerRecord1.get(MAINTAINER.ID))
                 .orElseThrow(() -> new MaintainerNotFoundException(maintainerCode));
 
-        final List<MaintainerVersion> versions = dslContext.select(
+        final List<MaintainerVersion> versions = QueryNameHelper.named(dslContext, "maintainer.versions").select(
                         APPLICATION.VERSION,
                         APPLICATION.VISIBLE,
                         APPLICATION.PREFERRED,
@@ -268,7 +315,7 @@ public class PersistentAppsService implements AppsService {
                 .from(APPLICATION)
                 .where(APPLICATION.ID_RDOMAIN.eq(appId))
                 .and(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                .orderBy(VERSION_SORT_FIELD)
+                .orderBy(VERSION_ORDER)
                 .fetch()
                 .stream()
                 .map(applicationVersionRecord -> new MaintainerVersion()
@@ -278,7 +325,7 @@ public class PersistentAppsService implements AppsService {
                         .encryption(applicationVersionRecord.get(APPLICATION.ENCRYPTION))
                 ).collect(Collectors.toList());
 
-        var result = dslContext.select(
+        var result = QueryNameHelper.named(dslContext, "maintainer.details").select(
                         MAINTAINER.CODE,
                         MAINTAINER.NAME,
                         MAINTAINER.ADDRESS,
@@ -304,18 +351,16 @@ public class PersistentAppsService implements AppsService {
                 )
 
                 .from(MAINTAINER)
-                .innerJoin(APPLICATION)
+                .innerJoin(latestOrPreferredApplications())
                 .on(MAINTAINER.ID.eq(APPLICATION.MAINTAINER_ID).and(MAINTAINER.CODE.eq(maintainerCode)))
-                .where(APPLICATION.ID_RDOMAIN.eq(appId))
-                .and(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                .and(DSL.condition(APPLICATION.LATEST.getQualifiedName() + " ->> 'maintainer' = 'true'")
-                        .or(APPLICATION.PREFERRED.eq(true)))
+                .where(APPLICATION_LATEST.ID_RDOMAIN.eq(appId))
+                .and(APPLICATION_LATEST.MAINTAINER_ID.eq(maintainerId))
                 .fetch();
 
         return ApplicationPreferredHelper.matchByPreferredVersionForDetailsMaintainer(result)
                 .map(applicationMetadataRecord -> {
                     final String url = createApplicationUrlFromApplicationRecord(applicationMetadataRecord, platformName, firmwareVer);
-                    return MaintainerApplicationDetailsMapper.map(applicationMetadataRecord, versions, jsonProcessorHelper, url);
+                    return MaintainerApplicationDetailsMapper.map(applicationMetadataRecord, versions, url);
                 });
     }
 
@@ -334,58 +379,58 @@ public class PersistentAppsService implements AppsService {
 
                 final Integer maintainerId = maybeMaintainerId.orElseThrow(() -> new MaintainerNotFoundException(maintainerCode));
 
-                localDslContext.insertInto(APPLICATION,
-                                APPLICATION.MAINTAINER_ID,
-                                APPLICATION.ID_RDOMAIN,
-                                APPLICATION.VERSION,
-                                APPLICATION.VISIBLE,
-                                APPLICATION.ENCRYPTION,
-                                APPLICATION.PREFERRED,
-                                APPLICATION.OCI_IMAGE_URL,
-                                APPLICATION.NAME,
-                                APPLICATION.DESCRIPTION,
-                                APPLICATION.ICON,
-                                APPLICATION.TYPE,
-                                APPLICATION.SIZE,
-                                APPLICATION.CATEGORY,
-                                APPLICATION.PLATFORM,
-                                APPLICATION.HARDWARE,
-                                APPLICATION.FEATURES,
-                                APPLICATION.DEPENDENCIES,
-                                APPLICATION.LOCALIZATIONS)
-                        .values(
-                                maintainerId,
-                                application.getHeader().getId(),
-                                application.getHeader().getVersion(),
-                                application.getHeader().isVisible(),
-                                application.getHeader().isEncryption(),
-                                application.getHeader().isPreferred(),
-                                application.getHeader().getOciImageUrl(),
-                                application.getHeader().getName(),
-                                application.getHeader().getDescription(),
-                                application.getHeader().getIcon(),
-                                application.getHeader().getType(),
-                                application.getHeader().getSize(),
-                                application.getHeader().getCategory().toString(),
-                                JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.PLATFORM, application.getRequirements().getPlatform())),
-                                JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.HARDWARE, application.getRequirements().getHardware())),
-                                JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.FEATURES, application.getRequirements().getFeatures())),
-                                JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.DEPENDENCIES, application.getRequirements().getDependencies())),
-                                JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.LOCALIZATIONS, application.getHeader().getLocalization()))
-                        )
+                localDslContext.insertInto(APPLICATION, APPLICATION_INSERT_FIELDS)
+                        .values(applicationValues(maintainerId, application))
                         .execute();
 
                 updateApplicationsLatestField(localDslContext, maintainerId, application.getHeader().getId());
-
+                CatalogGenerationHelper.increment(localDslContext);
+                ApplicationChangeHelper.record(localDslContext, application.getHeader().getId());
             });
         } catch (DuplicateKeyException ex) {
             throw new ApplicationAlreadyExistsException("Application already exists.");
         }
+        publishCatalogChanged(true, application.getHeader().getId());
+    }
+
+    @Override
+    public ApplicationImportResults importApplications(String maintainerCode, Iterator<Application> applications) {
+        final List<Application> applicationsToImport = readApplicationsToImport(applications);
+
+        final Pair<List<ApplicationImportResult>, Set<String>> importResultsWithApplicationIds = dslContext.transactionResult(configuration -> {
+            final DSLContext localDslContext = DSL.using(configuration);
+
+            final Integer maintainerId = localDslContext.select(MAINTAINER.ID)
+                    .from(MAINTAINER)
+                    .where(MAINTAINER.CODE.eq(maintainerCode))
+                    .fetchOptional(MAINTAINER.ID)
+                    .orElseThrow(() -> new MaintainerNotFoundException(maintainerCode));
+
+            final List<ApplicationImportResult> importResults = new ArrayList<>();
+            final Set<String> importedApplicationIds = new LinkedHashSet<>();
+            for (int from = 0; from < applicationsToImport.size(); from += IMPORT_CHUNK_SIZE) {
+                final List<Application> chunk = applicationsToImport.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, applicationsToImport.size()));
+                importResults.addAll(insertApplications(localDslContext, maintainerId, chunk, importedApplicationIds));
+            }
+
+            if (!importedApplicationIds.isEmpty()) {
+                importedApplicationIds.forEach(appId -> updateApplicationsLatestField(localDslContext, maintainerId, appId));
+                CatalogGenerationHelper.increment(localDslContext);
+                importedApplicationIds.forEach(appId -> ApplicationChangeHelper.record(localDslContext, appId));
+            }
+
+            return Pair.of(importResults, importedApplicationIds);
+        });
+
+        if (!importResultsWithApplicationIds.getRight().isEmpty()) {
+            eventPublisher.publishEvent(CatalogChangedEvent.forApplications(importResultsWithApplicationIds.getRight()));
+        }
+        return new ApplicationImportResults().results(importResultsWithApplicationIds.getLeft());
     }
 
     @Override
     public boolean updateLatestApplication(String maintainerCode, String appId, ApplicationForUpdate applicationForUpdate) {
-        return dslContext.transactionResult(configuration -> {
+        final boolean updated = dslContext.transactionResult(configuration -> {
                     final DSLContext localDslContext = DSL.using(configuration);
 
                     final Integer maintainerId = localDslContext.select(MAINTAINER.ID)
@@ -406,29 +451,35 @@ public class PersistentAppsService implements AppsService {
                             .set(APPLICATION.TYPE, applicationForUpdate.getHeader().getType())
                             .set(APPLICATION.SIZE, applicationForUpdate.getHeader().getSize())
                             .set(APPLICATION.CATEGORY, applicationForUpdate.getHeader().getCategory().toString())
-                            .set(APPLICATION.LOCALIZATIONS, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.LOCALIZATIONS, applicationForUpdate.getHeader().getLocalization())))
+                            .set(APPLICATION.LOCALIZATIONS, applicationForUpdate.getHeader().getLocalization())
 
-                            .set(APPLICATION.PLATFORM, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.PLATFORM, applicationForUpdate.getRequirements().getPlatform())))
-                            .set(APPLICATION.HARDWARE, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.HARDWARE, applicationForUpdate.getRequirements().getHardware())))
-                            .set(APPLICATION.FEATURES, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.FEATURES, applicationForUpdate.getRequirements().getFeatures())))
-                            .set(APPLICATION.DEPENDENCIES, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.DEPENDENCIES, applicationForUpdate.getRequirements().getDependencies())))
+                            .set(APPLICATION.PLATFORM, applicationForUpdate.getRequirements().getPlatform())
+                            .set(APPLICATION.HARDWARE, applicationForUpdate.getRequirements().getHardware())
+                            .set(APPLICATION.FEATURES, applicationForUpdate.getRequirements().getFeatures())
+                            .set(APPLICATION.DEPENDENCIES, applicationForUpdate.getRequirements().getDependencies())
                             .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
                             .and(APPLICATION.ID_RDOMAIN.eq(appId))
-                            .and(DSL.condition(APPLICATION.LATEST.getQualifiedName() + " -> 'maintainer' = 'true'"))
+                            .and(APPLICATION.ID.eq(maintainerLatestId(maintainerId, appId)))
                             .execute();
 
-                    updateApplicationsLatestField(localDslContext, maintainerId, appId);
                     if (applicationForUpdate.getHeader().isPreferred()) {
                         updateApplicationsPreferredFieldForLatest(localDslContext, maintainerId, appId);
                     }
+                    updateApplicationsLatestField(localDslContext, maintainerId, appId);
+                    if (affectedRows > 0) {
+                        CatalogGenerationHelper.increment(localDslContext);
+                        ApplicationChangeHelper.record(localDslContext, appId);
+                    }
                     return affectedRows > 0;
                 }
         );
+        publishCatalogChanged(updated, appId);
+        return updated;
     }
 
     @Override
     public boolean updateApplication(String maintainerCode, String appId, String version, ApplicationForUpdate applicationForUpdate) {
-        return dslContext.transactionResult(configuration -> {
+        final boolean updated = dslContext.transactionResult(configuration -> {
                     final DSLContext localDslContext = DSL.using(configuration);
 
                     final Integer maintainerId = localDslContext.select(MAINTAINER.ID)
@@ -450,28 +501,34 @@ public class PersistentAppsService implements AppsService {
                             .set(APPLICATION.SIZE, applicationForUpdate.getHeader().getSize())
                             .set(APPLICATION.CATEGORY, applicationForUpdate.getHeader().getCategory().toString())
                             .set(APPLICATION.VERSION, getVersion(version, applicationForUpdate))
-                            .set(APPLICATION.LOCALIZATIONS, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.LOCALIZATIONS, applicationForUpdate.getHeader().getLocalization())))
-                            .set(APPLICATION.PLATFORM, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.PLATFORM, applicationForUpdate.getRequirements().getPlatform())))
-                            .set(APPLICATION.HARDWARE, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.HARDWARE, applicationForUpdate.getRequirements().getHardware())))
-                            .set(APPLICATION.FEATURES, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.FEATURES, applicationForUpdate.getRequirements().getFeatures())))
-                            .set(APPLICATION.DEPENDENCIES, JSONB.valueOf(jsonProcessorHelper.writeValueAsString(JsonObjectNames.DEPENDENCIES, applicationForUpdate.getRequirements().getDependencies())))
+                            .set(APPLICATION.LOCALIZATIONS, applicationForUpdate.getHeader().getLocalization())
+                            .set(APPLICATION.PLATFORM, applicationForUpdate.getRequirements().getPlatform())
+                            .set(APPLICATION.HARDWARE, applicationForUpdate.getRequirements().getHardware())
+                            .set(APPLICATION.FEATURES, applicationForUpdate.getRequirements().getFeatures())
+                            .set(APPLICATION.DEPENDENCIES, applicationForUpdate.getRequirements().getDependencies())
                             .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
                             .and(APPLICATION.ID_RDOMAIN.eq(appId))
                             .and(APPLICATION.VERSION.eq(version))
                             .execute();
 
-                    updateApplicationsLatestField(localDslContext, maintainerId, appId);
                     if (applicationForUpdate.getHeader().isPreferred()) {
                         updateApplicationsPreferredFieldForVersion(localDslContext, maintainerId, appId, version);
                     }
+                    updateApplicationsLatestField(localDslContext, maintainerId, appId);
+                    if (affectedRows > 0) {
+                        CatalogGenerationHelper.increment(localDslContext);
+                        ApplicationChangeHelper.record(localDslContext, appId);
+                    }
                     return affectedRows > 0;
                 }
         );
+        publishCatalogChanged(updated, appId);
+        return updated;
     }
 
     @Override
     public boolean deleteApplication(String maintainerCode, String appId, String version) {
-        return dslContext.transactionResult(
+        final boolean deleted = dslContext.transactionResult(
                 configuration -> {
 
                     final DSLContext localDslContext = DSL.using(configuration);
@@ -491,14 +548,20 @@ public class PersistentAppsService implements AppsService {
                             .execute();
 
                     updateApplicationsLatestField(localDslContext, maintainerId, appId);
+                    if (affectedRows > 0) {
+                        CatalogGenerationHelper.increment(localDslContext);
+                        ApplicationChangeHelper.record(localDslContext, appId);
+                    }
 
                     return affectedRows > 0;
                 });
+        publishCatalogChanged(deleted, appId);
+        return deleted;
     }
 
     @Override
     public boolean deleteLatestApplication(String maintainerCode, String appId) {
-        return dslContext.transactionResult(
+        final boolean deleted = dslContext.transactionResult(
                 configuration -> {
                     final DSLContext localDslContext = DSL.using(configuration);
 
@@ -513,82 +576,192 @@ public class PersistentAppsService implements AppsService {
                             .deleteFrom(APPLICATION)
                             .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
                             .and(APPLICATION.ID_RDOMAIN.eq(appId))
-                            .and(DSL.condition(APPLICATION.LATEST.getQualifiedName() + " -> 'maintainer' = 'true'"))
+                            .and(APPLICATION.ID.eq(maintainerLatestId(maintainerId, appId)))
                             .execute();
 
                     updateApplicationsLatestField(localDslContext, maintainerId, appId);
+                    if (affectedRows > 0) {
+                        CatalogGenerationHelper.increment(localDslContext);
+                        ApplicationChangeHelper.record(localDslContext, appId);
+                    }
 
                     return affectedRows > 0;
                 });
+        publishCatalogChanged(deleted, appId);
+        return deleted;
     }
 
     @Override
     public boolean deleteAllApplicationVersions(String maintainerCode, String appId) {
         final int affectedRows = dslContext.transactionResult(
-                configuration -> DSL.using(configuration)
-                        .deleteFrom(APPLICATION)
-                        .using(MAINTAINER)
-                        .where(APPLICATION.MAINTAINER_ID.eq(MAINTAINER.ID))
-                        .and(MAINTAINER.CODE.eq(maintainerCode))
-                        .and(APPLICATION.ID_RDOMAIN.eq(appId))
-                        .execute());
-        return affectedRows > 0;
+                configuration -> {
+                    final DSLContext localDslContext = DSL.using(configuration);
+
+                    final int deletedRows = localDslContext
+                            .deleteFrom(APPLICATION)
+                            .using(MAINTAINER)
+                            .where(APPLICATION.MAINTAINER_ID.eq(MAINTAINER.ID))
+                            .and(MAINTAINER.CODE.eq(maintainerCode))
+                            .and(APPLICATION.ID_RDOMAIN.eq(appId))
+                            .execute();
+                    if (deletedRows > 0) {
+                        CatalogGenerationHelper.increment(localDslContext);
+                        ApplicationChangeHelper.record(localDslContext, appId);
+                    }
+
+                    return deletedRows;
+                });
+        final boolean deleted = affectedRows > 0;
+        publishCatalogChanged(deleted, appId);
+        return deleted;
     }
 
-    private void updateApplicationsLatestField(DSLContext localDslContext, Integer maintainerId, String appId) {
+    private void publishCatalogChanged(boolean changed, String appId) {
+        if (changed) {
+            eventPublisher.publishEvent(CatalogChangedEvent.forApplication(appId));
+        }
+    }
 
-        final Table<Record2<Integer, String>> latestVersionsTable = localDslContext.select(APPLICATION.ID.as("id"), DSL.inline("maintainer").as("latest"))
-                .from(APPLICATION)
-                .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                .and(APPLICATION.ID_RDOMAIN.eq(appId))
-                .orderBy(VERSION_SORT_FIELD)
-                .limit(1)
-                .union(
-                        localDslContext.select(APPLICATION.ID, DSL.inline("stb").as("latest"))
-                                .from(APPLICATION)
-                                .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                                .and(APPLICATION.ID_RDOMAIN.eq(appId))
-                                .and(APPLICATION.VISIBLE.isTrue())
-                                .orderBy(PostgresDSL.stringToArray(APPLICATION.VERSION, ".").cast(int[].class).desc())
-                                .limit(1)).asTable("latestVersions");
-
-        final Map<String, Integer> latestVersions = localDslContext.select(latestVersionsTable.field("id", Integer.class), latestVersionsTable.field("latest", String.class))
-                .from(
-                        latestVersionsTable
-                )
-                .stream()
-                .collect(Collectors.toMap(
-                        integerStringRecord2 -> integerStringRecord2.get("latest", String.class),
-                        integerStringRecord2 -> integerStringRecord2.get("id", Integer.class)));
+    private static List<Application> readApplicationsToImport(Iterator<Application> applications) {
+        final List<Application> applicationsToImport = new ArrayList<>();
+        while (applications.hasNext()) {
+            final Application application = applications.next();
+            final String missingField = missingImportField(application);
+            if (missingField != null) {
+                throw new InvalidApplicationImportException(applicationsToImport.size(), "[" + missingField + ": must not be null]");
+            }
+            applicationsToImport.add(application);
+        }
+        return applicationsToImport;
+    }
 
-        if (latestVersions.isEmpty()) {
-            return;
+    private static String missingImportField(Application application) {
+        if (application == null) {
+            return "application";
+        }
+        if (application.getHeader() == null) {
+            return "header";
         }
+        if (application.getHeader().getId() == null) {
+            return "header.id";
+        }
+        if (application.getHeader().getVersion() == null) {
+            return "header.version";
+        }
+        if (application.getHeader().getCategory() == null) {
+            return "header.category";
+        }
+        if (application.getRequirements() == null) {
+            return "requirements";
+        }
+        return null;
+    }
 
-        localDslContext.update(APPLICATION)
-                .set(APPLICATION.LATEST, JSONB.valueOf("{\"stb\": false, \"maintainer\": false}"))
-                .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                .and(APPLICATION.ID_RDOMAIN.eq(appId))
+    private static List<ApplicationImportResult> insertApplications(DSLContext localDslContext,
+                                                                    Integer maintainerId,
+                                                                    List<Application> applications,
+                                                                    Set<String> importedApplicationIds) {
+        InsertValuesStepN<ApplicationRecord> insert = localDslContext.insertInto(APPLICATION, APPLICATION_INSERT_FIELDS);
+        for (Application application : applications) {
+            insert = insert.values(applicationValues(maintainerId, application));
+        }
+
+        final Set<Pair<String, String>> inserted = insert.onConflictDoNothing()
+                .returning(APPLICATION.ID_RDOMAIN, APPLICATION.VERSION)
+                .fetch()
+                .stream()
+                .map(applicationRecord -> Pair.of(applicationRecord.getIdRdomain(), applicationRecord.getVersion()))
+                .collect(Collectors.toSet());
+
+        return applications.stream()
+                .map(application -> {
+                    final String appId = application.getHeader().getId();
+                    final String version = application.getHeader().getVersion();
+                    final boolean created = inserted.remove(Pair.of(appId, version));
+                    if (created) {
+                        importedApplicationIds.add(appId);
+                    }
+                    return new ApplicationImportResult()
+                            .id(appId)
+                            .version(version)
+                            .status(created ? ApplicationImportStatus.CREATED : ApplicationImportStatus.CONFLICT);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<Object> applicationValues(Integer maintainerId, Application application) {
+        return Arrays.asList(
+                maintainerId,
+                application.getHeader().getId(),
+                application.getHeader().getVersion(),
+                application.getHeader().isVisible(),
+                application.getHeader().isEncryption(),
+                application.getHeader().isPreferred(),
+                application.getHeader().getOciImageUrl(),
+                application.getHeader().getName(),
+                application.getHeader().getDescription(),
+                application.getHeader().getIcon(),
+                application.getHeader().getType(),
+                application.getHeader().getSize(),
+                application.getHeader().getCategory().toString(),
+                application.getRequirements().getPlatform(),
+                application.getRequirements().getHardware(),
+                application.getRequirements().getFeatures(),
+                application.getRequirements().getDependencies(),
+                application.getHeader().getLocalization());
+    }
+
+    private void updateApplicationsLatestField(DSLContext localDslContext, Integer maintainerId, String appId) {
+        final Condition applicationVersions = APPLICATION.ID_RDOMAIN.eq(appId).and(APPLICATION.MAINTAINER_ID.eq(maintainerId));
+        final Field<Integer> stbLatestId = DSL.field(DSL.select(APPLICATION.ID)
+                .from(APPLICATION)
+                .where(applicationVersions)
+                .and(APPLICATION.VISIBLE.isTrue())
+                .orderBy(VERSION_ORDER)
+                .limit(1));
+        final Field<Integer> maintainerLatestId = DSL.field(DSL.select(APPLICATION.ID)
+                .from(APPLICATION)
+                .where(applicationVersions)
+                .orderBy(VERSION_ORDER)
+                .limit(1));
+        final Field<Integer> preferredId = DSL.field(DSL.select(DSL.min(APPLICATION.ID))
+                .from(APPLICATION)
+                .where(applicationVersions)
+                .and(APPLICATION.PREFERRED.isTrue()));
+
+        QueryNameHelper.named(localDslContext, "maintainer.latestRecompute").insertInto(APPLICATION_LATEST,
+                        APPLICATION_LATEST.ID_RDOMAIN,
+                        APPLICATION_LATEST.MAINTAINER_ID,
+                        APPLICATION_LATEST.STB_LATEST_ID,
+                        APPLICATION_LATEST.MAINTAINER_LATEST_ID,
+                        APPLICATION_LATEST.PREFERRED_ID)
+                .select(DSL.select(DSL.val(appId), DSL.val(maintainerId), stbLatestId, maintainerLatestId, preferredId)
+                        .whereExists(DSL.selectOne().from(APPLICATION).where(applicationVersions)))
+                .onConflict(APPLICATION_LATEST.ID_RDOMAIN, APPLICATION_LATEST.MAINTAINER_ID)
+                .doUpdate()
+                .set(APPLICATION_LATEST.STB_LATEST_ID, excluded(APPLICATION_LATEST.STB_LATEST_ID))
+                .set(APPLICATION_LATEST.MAINTAINER_LATEST_ID, excluded(APPLICATION_LATEST.MAINTAINER_LATEST_ID))
+                .set(APPLICATION_LATEST.PREFERRED_ID, excluded(APPLICATION_LATEST.PREFERRED_ID))
+                .where(DSL.row(APPLICATION_LATEST.STB_LATEST_ID, APPLICATION_LATEST.MAINTAINER_LATEST_ID, APPLICATION_LATEST.PREFERRED_ID)
+                        .isDistinctFrom(excluded(APPLICATION_LATEST.STB_LATEST_ID), excluded(APPLICATION_LATEST.MAINTAINER_LATEST_ID), excluded(APPLICATION_LATEST.PREFERRED_ID)))
                 .execute();
+    }
 
-        if (latestVersions.get("maintainer").equals(latestVersions.get("stb"))) {
-            localDslContext.update(APPLICATION)
-                    .set(APPLICATION.LATEST, JSONB.valueOf("{\"stb\": true, \"maintainer\": true}"))
-                    .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                    .and(APPLICATION.ID.eq(latestVersions.get("maintainer")))
-                    .execute();
-        } else {
-            localDslContext.update(APPLICATION)
-                    .set(APPLICATION.LATEST, JSONB.valueOf("{\"stb\": false, \"maintainer\": true}"))
-                    .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                    .and(APPLICATION.ID.eq(latestVersions.get("maintainer")))
-                    .execute();
-            localDslContext.update(APPLICATION)
-                    .set(APPLICATION.LATEST, JSONB.valueOf("{\"stb\": true, \"maintainer\": false}"))
-                    .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
-                    .and(APPLICATION.ID.eq(latestVersions.get("stb")))
-                    .execute();
-        }
+    private static Table<?> latestOrPreferredApplications() {
+        return APPLICATION_LATEST.innerJoin(APPLICATION)
+                .on(APPLICATION.ID.in(APPLICATION_LATEST.MAINTAINER_LATEST_ID, APPLICATION_LATEST.PREFERRED_ID))
+                .and(APPLICATION.MAINTAINER_ID.eq(APPLICATION_LATEST.MAINTAINER_ID));
+    }
+
+    private static Field<Integer> maintainerLatestId(Integer maintainerId, String appId) {
+        return DSL.field(DSL.select(APPLICATION_LATEST.MAINTAINER_LATEST_ID)
+                .from(APPLICATION_LATEST)
+                .where(APPLICATION_LATEST.ID_RDOMAIN.eq(appId))
+                .and(APPLICATION_LATEST.MAINTAINER_ID.eq(maintainerId)));
+    }
+
+    private static <T> Field<T> excluded(Field<T> field) {
+        return DSL.field(DSL.name("excluded", field.getName()), field.getType());
     }
 
     private void updateApplicationsPreferredFieldForVersion(DSLContext localDslContext, Integer maintainerId, String appId, String version) {
@@ -609,7 +782,7 @@ public class PersistentAppsService implements AppsService {
                 .set(APPLICATION.PREFERRED, true)
                 .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
                 .and(APPLICATION.ID_RDOMAIN.eq(appId))
-                .and(DSL.condition(APPLICATION.LATEST.getQualifiedName() + " -> 'maintainer' = 'true'"))
+                .and(APPLICATION.ID.eq(maintainerLatestId(maintainerId, appId)))
                 .execute();
     }
 
@@ -637,4 +810,8 @@ public class PersistentAppsService implements AppsService {
                 ? applicationForUpdate.getHeader().getVersion()
                 : version;
     }
+
+    private static String nextCursor(MaintainerApplicationHeader lastApplicationHeader) {
+        return ApplicationCursor.of(lastApplicationHeader.getId(), lastApplicationHeader.getVersion()).toString();
+    }
 }
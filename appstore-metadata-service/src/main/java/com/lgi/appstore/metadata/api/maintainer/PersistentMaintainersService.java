@@ -25,11 +25,15 @@ import static org.jooq.impl.DSL.count;
 import com.lgi.appstore.metadata.api.error.ApplicationAlreadyExistsException;
 import com.lgi.appstore.metadata.api.error.MaintainerAlreadyExistsException;
 import com.lgi.appstore.metadata.api.error.MaintainerNotFoundException;
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
+import com.lgi.appstore.metadata.model.IncludeTotal;
 import com.lgi.appstore.metadata.model.Maintainer;
 import com.lgi.appstore.metadata.model.MaintainerForUpdate;
 import com.lgi.appstore.metadata.model.MaintainerList;
 import com.lgi.appstore.metadata.model.Meta;
 import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.util.CatalogGenerationHelper;
+import com.lgi.appstore.metadata.util.TotalCountHelper;
 
 import java.util.List;
 
@@ -41,6 +45,7 @@ import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
@@ -51,10 +56,12 @@ public class PersistentMaintainersService implements MaintainersService {
     private static final Logger LOG = LoggerFactory.getLogger(PersistentMaintainersService.class);
 
     private final DSLContext dslContext;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public PersistentMaintainersService(DSLContext dslContext) {
+    public PersistentMaintainersService(DSLContext dslContext, ApplicationEventPublisher eventPublisher) {
         this.dslContext = dslContext;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -107,7 +114,7 @@ public class PersistentMaintainersService implements MaintainersService {
 
     @Override
     public boolean updateMaintainer(final String maintainerCode, final MaintainerForUpdate maintainerForUpdate) {
-        return dslContext.transactionResult(configuration -> {
+        final Pair<Boolean, List<String>> updatedWithApplicationIds = dslContext.transactionResult(configuration -> {
             final DSLContext localDslContext = DSL.using(configuration);
 
             final Integer maintainerId = localDslContext.select(MAINTAINER.ID)
@@ -125,8 +132,21 @@ public class PersistentMaintainersService implements MaintainersService {
                     .where(MAINTAINER.ID.eq(maintainerId))
                     .execute();
 
-            return affectedRows > 0;
+            final List<String> applicationIds = localDslContext.selectDistinct(APPLICATION.ID_RDOMAIN)
+                    .from(APPLICATION)
+                    .where(APPLICATION.MAINTAINER_ID.eq(maintainerId))
+                    .fetch(APPLICATION.ID_RDOMAIN);
+            if (affectedRows > 0 && !applicationIds.isEmpty()) {
+                CatalogGenerationHelper.increment(localDslContext);
+            }
+
+            return Pair.of(affectedRows > 0, applicationIds);
         });
+
+        if (updatedWithApplicationIds.getLeft() && !updatedWithApplicationIds.getRight().isEmpty()) {
+            eventPublisher.publishEvent(CatalogChangedEvent.forApplications(updatedWithApplicationIds.getRight()));
+        }
+        return updatedWithApplicationIds.getLeft();
     }
 
     @Override
@@ -157,12 +177,12 @@ public class PersistentMaintainersService implements MaintainersService {
     }
 
     @Override
-    public MaintainerList searchMaintainers(final String name, Integer limit, Integer offset) {
+    public MaintainerList searchMaintainers(final String name, Integer limit, Integer offset, IncludeTotal includeTotal) {
         final int effectiveOffset = offset != null ? offset : 0;
         final int effectiveLimit = limit != null ? limit : 0;
 
         final Condition whereCondition = StringUtils.isNoneEmpty(name)
-                ? MAINTAINER.NAME.startsWithIgnoreCase(name)
+                ? DSL.lower(MAINTAINER.NAME).startsWith(DSL.lower(DSL.val(name)))
                 : DSL.noCondition();
 
         var readyToLimit = dslContext.selectFrom(MAINTAINER)
@@ -172,10 +192,9 @@ public class PersistentMaintainersService implements MaintainersService {
         final List<Maintainer> maintainers = (effectiveLimit != 0 ? readyToLimit.limit(effectiveLimit) : readyToLimit)
                 .fetchInto(Maintainer.class);
 
-        final int total = dslContext.selectCount()
-                .from(MAINTAINER)
-                .where(whereCondition)
-                .fetchOne(0, int.class);
+        final Integer total = TotalCountHelper.total(dslContext, includeTotal,
+                dslContext.selectCount().from(MAINTAINER).where(whereCondition),
+                dslContext.selectFrom(MAINTAINER).where(whereCondition));
 
         final Meta meta = new Meta()
                 .resultSet(
@@ -21,36 +21,23 @@ package com.lgi.appstore.metadata.api.mapper;
 import static com.lgi.appstore.metadata.jooq.model.Tables.MAINTAINER;
 import static com.lgi.appstore.metadata.jooq.model.tables.Application.APPLICATION;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.lgi.appstore.metadata.model.Dependency;
-import com.lgi.appstore.metadata.model.Feature;
-import com.lgi.appstore.metadata.model.Hardware;
-import com.lgi.appstore.metadata.model.JsonObjectNames;
 import com.lgi.appstore.metadata.model.MaintainerApplicationDetails;
 import com.lgi.appstore.metadata.model.MaintainerSingleApplicationHeader;
 import com.lgi.appstore.metadata.model.MaintainerVersion;
-import com.lgi.appstore.metadata.model.Platform;
 import com.lgi.appstore.metadata.model.Requirements;
-import com.lgi.appstore.metadata.util.JsonProcessorHelper;
 import org.jooq.Record;
 
 import java.util.List;
 
 public class MaintainerApplicationDetailsMapper {
 
-    private static final TypeReference<List<Dependency>> DEPENDENCIES_TYPE = new TypeReference<>() {
-    };
-    private static final TypeReference<List<Feature>> FEATURES_TYPE = new TypeReference<>() {
-    };
-
     private MaintainerApplicationDetailsMapper() {
     }
 
     public static MaintainerApplicationDetails map(Record applicationMetadataRecord,
                                                    List<MaintainerVersion> versions,
-                                                   JsonProcessorHelper jsonProcessorHelper,
                                                    String url) {
-        final MaintainerSingleApplicationHeader applicationHeader = MaintainerSingleApplicationHeaderMapper.map(applicationMetadataRecord, jsonProcessorHelper, url);
+        final MaintainerSingleApplicationHeader applicationHeader = MaintainerSingleApplicationHeaderMapper.map(applicationMetadataRecord, url);
 
         return new MaintainerApplicationDetails()
                 .header(applicationHeader)
@@ -62,10 +49,10 @@ public class MaintainerApplicationDetailsMapper {
                         .email(applicationMetadataRecord.get(MAINTAINER.EMAIL)))
                 .versions(versions)
                 .requirements(new Requirements()
-                        .dependencies(jsonProcessorHelper.readValue(JsonObjectNames.DEPENDENCIES, applicationMetadataRecord.get(APPLICATION.DEPENDENCIES).data(), DEPENDENCIES_TYPE))
-                        .features(jsonProcessorHelper.readValue(JsonObjectNames.FEATURES, applicationMetadataRecord.get(APPLICATION.FEATURES).data(), FEATURES_TYPE))
-                        .hardware(jsonProcessorHelper.readValue(JsonObjectNames.HARDWARE, applicationMetadataRecord.get(APPLICATION.HARDWARE).data(), Hardware.class))
-                        .platform(jsonProcessorHelper.readValue(JsonObjectNames.PLATFORM, applicationMetadataRecord.get(APPLICATION.PLATFORM).data(), Platform.class)));
+                        .dependencies(applicationMetadataRecord.get(APPLICATION.DEPENDENCIES))
+                        .features(applicationMetadataRecord.get(APPLICATION.FEATURES))
+                        .hardware(applicationMetadataRecord.get(APPLICATION.HARDWARE))
+                        .platform(applicationMetadataRecord.get(APPLICATION.PLATFORM)));
     }
 }
 
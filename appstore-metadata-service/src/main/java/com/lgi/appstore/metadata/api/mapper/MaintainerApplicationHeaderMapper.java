@@ -18,33 +18,22 @@
  */
 package com.lgi.appstore.metadata.api.mapper;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.lgi.appstore.metadata.model.Category;
-import com.lgi.appstore.metadata.model.JsonObjectNames;
 import com.lgi.appstore.metadata.model.Localization;
 import com.lgi.appstore.metadata.model.MaintainerApplicationHeader;
-import com.lgi.appstore.metadata.util.JsonProcessorHelper;
-import org.jooq.JSONB;
 import org.jooq.Record;
 
 import java.util.List;
-import java.util.Optional;
 
 import static com.lgi.appstore.metadata.jooq.model.tables.Application.APPLICATION;
 
 public class MaintainerApplicationHeaderMapper {
 
-    private static final TypeReference<List<Localization>> LOCALIZATIONS_TYPE = new TypeReference<>() {
-    };
-
     private MaintainerApplicationHeaderMapper() {
     }
 
-    public static MaintainerApplicationHeader map(Record applicationMetadataRecord, JsonProcessorHelper jsonProcessorHelper) {
-        final List<Localization> localizations = Optional.ofNullable(applicationMetadataRecord.get(APPLICATION.LOCALIZATIONS))
-                .map(JSONB::data)
-                .map(json -> jsonProcessorHelper.readValue(JsonObjectNames.LOCALIZATIONS, json, LOCALIZATIONS_TYPE))
-                .orElse(null);
+    public static MaintainerApplicationHeader map(Record applicationMetadataRecord) {
+        final List<Localization> localizations = applicationMetadataRecord.get(APPLICATION.LOCALIZATIONS);
 
         return new MaintainerApplicationHeader()
                 .id(applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN))
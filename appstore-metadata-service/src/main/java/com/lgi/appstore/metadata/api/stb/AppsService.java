@@ -18,20 +18,36 @@
  */
 package com.lgi.appstore.metadata.api.stb;
 
-import com.lgi.appstore.metadata.model.AppIdWithType;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.ChangesToken;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Meta;
 import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.StbApplicationChanges;
 import com.lgi.appstore.metadata.model.StbApplicationDetails;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
 import com.lgi.appstore.metadata.model.StbApplicationsList;
 
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AppsService {
-    Optional<AppIdWithType> getApplicationType(String appId);
+    Optional<StbApplicationMetadata> getApplicationMetadata(String appId);
+
+    Optional<StbApplicationMetadata> getApplicationMetadata(String appId, String version);
+
+    Map<Pair<String, String>, StbApplicationMetadata> getApplicationsMetadata(Collection<Pair<String, String>> appIdsWithVersions);
+
+    StbApplicationsList listApplications(String name, String description, String version, String type, Platform platform, Category category, String maintainerName, Integer offset, Integer limit, ApplicationCursor cursor, IncludeTotal includeTotal);
 
-    Optional<AppIdWithType> getApplicationType(String appId, String version);
+    Meta streamApplications(String name, String description, String version, String type, Platform platform, Category category, String maintainerName, Integer offset, IncludeTotal includeTotal, Consumer<StbApplicationHeader> applicationConsumer);
 
-    StbApplicationsList listApplications(String name, String description, String version, String type, Platform platform, Category category, String maintainerName, Integer offset, Integer limit);
+    StbApplicationChanges listApplicationChanges(ChangesToken since);
 
     Optional<StbApplicationDetails> getApplicationDetails(String appId, String version, String platformName, String firmwareVer);
 
@@ -0,0 +1,149 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb;
+
+import com.lgi.appstore.metadata.api.catalog.CatalogGenerationService;
+import com.lgi.appstore.metadata.api.stb.catalog.StbApplicationMetadataCache;
+import com.lgi.appstore.metadata.api.stb.catalog.StbCatalogSnapshotHolder;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.ChangesToken;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Meta;
+import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.StbApplicationChanges;
+import com.lgi.appstore.metadata.model.StbApplicationDetails;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.model.StbApplicationsList;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Primary
+@Service("StbCachingAppsService")
+public class CachingAppsService implements AppsService {
+
+    private final AppsService persistentAppsService;
+    private final Optional<StbCatalogSnapshotHolder> catalogSnapshotHolder;
+    private final Optional<StbApplicationMetadataCache> applicationMetadataCache;
+    private final ApplicationUrlService applicationUrlService;
+    private final CatalogGenerationService catalogGenerationService;
+
+    @Autowired
+    public CachingAppsService(@Qualifier("StbPersistentAppsService") AppsService persistentAppsService,
+                              Optional<StbCatalogSnapshotHolder> catalogSnapshotHolder,
+                              Optional<StbApplicationMetadataCache> applicationMetadataCache,
+                              ApplicationUrlService applicationUrlService,
+                              CatalogGenerationService catalogGenerationService) {
+        this.persistentAppsService = persistentAppsService;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.applicationMetadataCache = applicationMetadataCache;
+        this.applicationUrlService = applicationUrlService;
+        this.catalogGenerationService = catalogGenerationService;
+    }
+
+    @Override
+    public Optional<StbApplicationMetadata> getApplicationMetadata(String appId) {
+        return applicationMetadataCache
+                .map(cache -> cache.getLatest(appId, () -> persistentAppsService.getApplicationMetadata(appId)))
+                .orElseGet(() -> persistentAppsService.getApplicationMetadata(appId));
+    }
+
+    @Override
+    public Optional<StbApplicationMetadata> getApplicationMetadata(String appId, String version) {
+        return applicationMetadataCache
+                .map(cache -> cache.get(appId, version, () -> persistentAppsService.getApplicationMetadata(appId, version)))
+                .orElseGet(() -> persistentAppsService.getApplicationMetadata(appId, version));
+    }
+
+    @Override
+    public Map<Pair<String, String>, StbApplicationMetadata> getApplicationsMetadata(Collection<Pair<String, String>> appIdsWithVersions) {
+        return applicationMetadataCache
+                .map(cache -> cache.getAll(appIdsWithVersions, persistentAppsService::getApplicationsMetadata))
+                .orElseGet(() -> persistentAppsService.getApplicationsMetadata(appIdsWithVersions));
+    }
+
+    @Override
+    public StbApplicationsList listApplications(String name,
+                                                String description,
+                                                String version,
+                                                String type,
+                                                Platform platform,
+                                                Category category,
+                                                String maintainerName,
+                                                Integer offset,
+                                                Integer limit,
+                                                ApplicationCursor cursor,
+                                                IncludeTotal includeTotal) {
+        return catalogSnapshotHolder
+                .flatMap(holder -> holder.getSnapshot(currentGeneration()))
+                .map(snapshot -> snapshot.listApplications(name, description, version, type, platform, category, maintainerName, offset, limit, cursor, includeTotal))
+                .orElseGet(() -> persistentAppsService.listApplications(name, description, version, type, platform, category, maintainerName, offset, limit, cursor, includeTotal));
+    }
+
+    @Override
+    public Meta streamApplications(String name,
+                                   String description,
+                                   String version,
+                                   String type,
+                                   Platform platform,
+                                   Category category,
+                                   String maintainerName,
+                                   Integer offset,
+                                   IncludeTotal includeTotal,
+                                   Consumer<StbApplicationHeader> applicationConsumer) {
+        return catalogSnapshotHolder
+                .flatMap(holder -> holder.getSnapshot(currentGeneration()))
+                .map(snapshot -> {
+                    final StbApplicationsList applicationsList = snapshot.listApplications(name, description, version, type, platform, category, maintainerName, offset, null, null, includeTotal);
+                    applicationsList.getApplications().forEach(applicationConsumer);
+                    return applicationsList.getMeta();
+                })
+                .orElseGet(() -> persistentAppsService.streamApplications(name, description, version, type, platform, category, maintainerName, offset, includeTotal, applicationConsumer));
+    }
+
+    @Override
+    public StbApplicationChanges listApplicationChanges(ChangesToken since) {
+        return persistentAppsService.listApplicationChanges(since);
+    }
+
+    @Override
+    public Optional<StbApplicationDetails> getApplicationDetails(String appId, String version, String platformName, String firmwareVer) {
+        return getApplicationMetadata(appId, version)
+                .map(applicationMetadata -> applicationMetadata.toApplicationDetails(applicationUrlService, platformName, firmwareVer));
+    }
+
+    @Override
+    public Optional<StbApplicationDetails> getApplicationDetails(String appId, String platformName, String firmwareVer) {
+        return getApplicationMetadata(appId)
+                .map(applicationMetadata -> applicationMetadata.toApplicationDetails(applicationUrlService, platformName, firmwareVer));
+    }
+
+    private long currentGeneration() {
+        return catalogGenerationService.currentGeneration().getGeneration();
+    }
+}
@@ -18,93 +18,132 @@
  */
 package com.lgi.appstore.metadata.api.stb;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.lgi.appstore.metadata.api.error.ExpiredChangesTokenException;
+import com.lgi.appstore.metadata.api.error.InvalidChangesTokenException;
+import com.lgi.appstore.metadata.jooq.model.tables.Application;
+import com.lgi.appstore.metadata.jooq.model.tables.ApplicationChange;
 import com.lgi.appstore.metadata.model.AppIdWithType;
+import com.lgi.appstore.metadata.model.AppIdWithVersion;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.Category;
-import com.lgi.appstore.metadata.model.Hardware;
-import com.lgi.appstore.metadata.model.JsonObjectNames;
+import com.lgi.appstore.metadata.model.ChangesToken;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Localization;
 import com.lgi.appstore.metadata.model.Meta;
 import com.lgi.appstore.metadata.model.Platform;
 import com.lgi.appstore.metadata.model.Requirements;
 import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.model.StbApplicationChanges;
 import com.lgi.appstore.metadata.model.StbApplicationDetails;
 import com.lgi.appstore.metadata.model.StbApplicationHeader;
 import com.lgi.appstore.metadata.model.StbApplicationsList;
 import com.lgi.appstore.metadata.model.StbSingleApplicationHeader;
 import com.lgi.appstore.metadata.model.StbVersion;
-import com.lgi.appstore.metadata.util.ApplicationPreferredHelper;
+import com.lgi.appstore.metadata.util.ApplicationChangeHelper;
+import com.lgi.appstore.metadata.util.ApplicationFilterHelper;
 import com.lgi.appstore.metadata.util.ApplicationUrlService;
-import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import com.lgi.appstore.metadata.util.CatalogGenerationHelper;
+import com.lgi.appstore.metadata.util.CursorFetchHelper;
+import com.lgi.appstore.metadata.util.QueryNameHelper;
+import com.lgi.appstore.metadata.util.SnapshotTransactionHelper;
+import com.lgi.appstore.metadata.util.TotalCountHelper;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
-import org.jooq.JSONB;
+import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record10;
 import org.jooq.SelectConditionStep;
 import org.jooq.SortField;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
-import org.jooq.util.postgres.PostgresDSL;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static com.lgi.appstore.metadata.jooq.model.tables.Application.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.tables.ApplicationChange.APPLICATION_CHANGE;
+import static com.lgi.appstore.metadata.jooq.model.tables.ApplicationLatest.APPLICATION_LATEST;
 import static com.lgi.appstore.metadata.jooq.model.tables.Maintainer.MAINTAINER;
 
-@Primary
 @Service("StbPersistentAppsService")
 public class PersistentAppsService implements AppsService {
 
     private final DSLContext dslContext;
-    private final JsonProcessorHelper jsonProcessorHelper;
     private final ApplicationUrlService applicationUrlService;
 
-    private static final String VERSION_PART_DELIMITER = ".";
-    private static final SortField<int[]> VERSION_SORT_FIELD = PostgresDSL.stringToArray(APPLICATION.VERSION, VERSION_PART_DELIMITER)
-            .cast(int[].class)
-            .desc();
+    private static final String APPLICATION_TYPE_FIELD = "application_type";
+    private static final String VERSIONS_FIELD = "versions";
+    private static final String REQUESTED_TABLE = "requested";
+    private static final String REQUESTED_APP_ID_FIELD = "app_id";
+    private static final String REQUESTED_VERSION_FIELD = "version";
+    private static final List<SortField<?>> PREFERRED_VERSION_ORDER = List.of(
+            APPLICATION.ID_RDOMAIN.asc(),
+            APPLICATION.PREFERRED.desc(),
+            APPLICATION.ID.asc());
+    private static final Condition APPLICATION_LATEST_KEY = APPLICATION_LATEST.ID_RDOMAIN.eq(APPLICATION.ID_RDOMAIN)
+            .and(APPLICATION_LATEST.MAINTAINER_ID.eq(APPLICATION.MAINTAINER_ID));
 
     @Autowired
     public PersistentAppsService(DSLContext dslContext,
-                                 JsonProcessorHelper jsonProcessorHelper,
                                  ApplicationUrlService applicationUrlService) {
         this.dslContext = dslContext;
-        this.jsonProcessorHelper = jsonProcessorHelper;
         this.applicationUrlService = applicationUrlService;
     }
 
     @Override
-    public Optional<AppIdWithType> getApplicationType(String appId) {
-        return dslContext.select(APPLICATION.TYPE)
-                .from(APPLICATION)
-                .where(APPLICATION.ID_RDOMAIN.eq(appId))
-                .and(APPLICATION.VISIBLE.isTrue())
-                .orderBy(VERSION_SORT_FIELD)
-                .limit(1)
-                .fetch()
-                .stream()
-                .map(sqlRecord -> getAppIdWithType(appId, sqlRecord))
-                .findFirst();
+    public Optional<StbApplicationMetadata> getApplicationMetadata(String appId) {
+        return fetchApplicationMetadata(latestOrPreferredApplications(), APPLICATION_LATEST.ID_RDOMAIN.eq(appId), latestVersionType());
     }
 
     @Override
-    public Optional<AppIdWithType> getApplicationType(String appId, String version) {
-        return dslContext.select(APPLICATION.TYPE)
-                .from(APPLICATION)
-                .where(APPLICATION.ID_RDOMAIN.eq(appId))
-                .and(APPLICATION.VERSION.eq(version))
-                .and(APPLICATION.VISIBLE.isTrue())
-                .orderBy(VERSION_SORT_FIELD)
-                .limit(1)
-                .fetch()
-                .stream()
-                .map(sqlRecord -> getAppIdWithType(appId, sqlRecord))
-                .findFirst();
+    public Optional<StbApplicationMetadata> getApplicationMetadata(String appId, String version) {
+        return fetchApplicationMetadata(APPLICATION, APPLICATION.ID_RDOMAIN.eq(appId).and(APPLICATION.VERSION.eq(version)), APPLICATION.TYPE);
+    }
+
+    @Override
+    public Map<Pair<String, String>, StbApplicationMetadata> getApplicationsMetadata(Collection<Pair<String, String>> appIdsWithVersions) {
+        if (appIdsWithVersions.isEmpty()) {
+            return Map.of();
+        }
+
+        final Field<String> requestedAppId = DSL.field(DSL.name(REQUESTED_TABLE, REQUESTED_APP_ID_FIELD), String.class);
+        final Field<String> requestedVersion = DSL.field(DSL.name(REQUESTED_TABLE, REQUESTED_VERSION_FIELD), String.class);
+        final Condition latestRequested = requestedVersion.eq(DSL.inline(AppIdWithVersion.VERSION_LATEST));
+        final Field<String> applicationType = DSL.when(latestRequested, latestVersionType())
+                .otherwise(APPLICATION.TYPE)
+                .as(APPLICATION_TYPE_FIELD);
+        final Table<?> requested = DSL.table("unnest({0}, {1})",
+                        DSL.val(appIdsWithVersions.stream().map(Pair::getLeft).toArray(String[]::new)),
+                        DSL.val(appIdsWithVersions.stream().map(Pair::getRight).toArray(String[]::new)))
+                .as(REQUESTED_TABLE, REQUESTED_APP_ID_FIELD, REQUESTED_VERSION_FIELD);
+
+        return QueryNameHelper.named(dslContext, "stb.batchDetails").select(applicationMetadataFields(applicationType, requestedAppId, requestedVersion))
+                .distinctOn(requestedAppId, requestedVersion)
+                .from(requested)
+                .innerJoin(APPLICATION)
+                .on(APPLICATION.ID_RDOMAIN.eq(requestedAppId))
+                .innerJoin(APPLICATION_LATEST)
+                .on(APPLICATION_LATEST_KEY)
+                .innerJoin(MAINTAINER)
+                .on(MAINTAINER.ID.eq(APPLICATION.MAINTAINER_ID))
+                .where(APPLICATION.VISIBLE.eq(true))
+                .and(latestRequested.and(latestOrPreferredCondition()).or(APPLICATION.VERSION.eq(requestedVersion)))
+                .orderBy(requestedAppId, requestedVersion, APPLICATION.PREFERRED.desc())
+                .fetchMap(applicationMetadataRecord -> Pair.of(applicationMetadataRecord.get(requestedAppId), applicationMetadataRecord.get(requestedVersion)),
+                        applicationMetadataRecord -> toApplicationMetadata(applicationMetadataRecord, applicationType));
     }
 
     @Override
@@ -116,8 +155,247 @@ public class PersistentAppsService implements AppsService {
                                                 Category category,
                                                 String maintainerName,
                                                 Integer offset,
-                                                Integer limit) {
-        final SelectConditionStep<Record10<String, String, String, String, String, String, Integer, String, JSONB, Boolean>> where = dslContext.select(
+                                                Integer limit,
+                                                ApplicationCursor cursor,
+                                                IncludeTotal includeTotal) {
+        final Table<?> applications = applications(version);
+        final Condition condition = listCondition(name, description, version, type, platform, category, maintainerName);
+        final Integer total = total(QueryNameHelper.named(dslContext, "stb.count"), includeTotal, applications, condition);
+
+        final int effectiveOffset = cursor == null && offset != null ? offset : 0;
+        final int effectiveLimit = limit != null ? limit : 0;
+        final Condition pageCondition = cursor != null ? condition.and(APPLICATION.ID_RDOMAIN.gt(cursor.getAppId())) : condition;
+
+        final DSLContext listDslContext = QueryNameHelper.named(dslContext, "stb.list");
+        var readyToLimit = selectApplicationHeaders(listDslContext, applications)
+            .and(pageCondition)
+            .orderBy(PREFERRED_VERSION_ORDER)
+            .offset(effectiveOffset);
+
+        final List<StbApplicationHeader> applicationHeaderList = effectiveLimit != 0
+                ? readyToLimit.limit(effectiveLimit + 1).fetch(PersistentAppsService::toApplicationHeader)
+                : CursorFetchHelper.fetchMapped(listDslContext, readyToLimit, PersistentAppsService::toApplicationHeader);
+        final boolean hasNextPage = effectiveLimit != 0 && applicationHeaderList.size() > effectiveLimit;
+        if (hasNextPage) {
+            applicationHeaderList.remove(effectiveLimit);
+        }
+
+        final Meta meta = new Meta()
+                .resultSet(
+                        new ResultSetMeta()
+                                .offset(effectiveOffset)
+                                .limit(effectiveLimit)
+                                .count(applicationHeaderList.size())
+                                .total(total)
+                                .nextCursor(hasNextPage ? nextCursor(applicationHeaderList.get(effectiveLimit - 1)) : null)
+                );
+
+        return new StbApplicationsList()
+                .applications(applicationHeaderList)
+                .meta(meta);
+    }
+
+    @Override
+    public Meta streamApplications(String name,
+                                   String description,
+                                   String version,
+                                   String type,
+                                   Platform platform,
+                                   Category category,
+                                   String maintainerName,
+                                   Integer offset,
+                                   IncludeTotal includeTotal,
+                                   Consumer<StbApplicationHeader> applicationConsumer) {
+        final Table<?> applications = applications(version);
+        final Condition condition = listCondition(name, description, version, type, platform, category, maintainerName);
+        final int effectiveOffset = offset != null ? offset : 0;
+
+        return dslContext.transactionResult(configuration -> {
+            final DSLContext localDslContext = DSL.using(configuration);
+            final Integer total = total(QueryNameHelper.named(localDslContext, "stb.count"), includeTotal, applications, condition);
+
+            int count = 0;
+            try (Cursor<Record10<String, String, String, String, String, String, Integer, String, List<Localization>, Boolean>> cursor = selectApplicationHeaders(QueryNameHelper.named(localDslContext, "stb.list"), applications)
+                    .and(condition)
+                    .orderBy(PREFERRED_VERSION_ORDER)
+                    .offset(effectiveOffset)
+                    .fetchLazy()) {
+                for (Record10<String, String, String, String, String, String, Integer, String, List<Localization>, Boolean> applicationMetadataRecord : cursor) {
+                    applicationConsumer.accept(toApplicationHeader(applicationMetadataRecord));
+                    count++;
+                }
+            }
+
+            return new Meta()
+                    .resultSet(
+                            new ResultSetMeta()
+                                    .offset(effectiveOffset)
+                                    .limit(0)
+                                    .count(count)
+                                    .total(total)
+                    );
+        });
+    }
+
+    @Override
+    public StbApplicationChanges listApplicationChanges(ChangesToken since) {
+        return SnapshotTransactionHelper.snapshotTransactionResult(dslContext, configuration -> listApplicationChanges(DSL.using(configuration), since));
+    }
+
+    private static StbApplicationChanges listApplicationChanges(DSLContext localDslContext, ChangesToken since) {
+        final long currentGeneration = CatalogGenerationHelper.fetch(localDslContext).getGeneration();
+        if (since.getGeneration() > currentGeneration) {
+            throw new InvalidChangesTokenException(since.toString());
+        }
+        if (since.getGeneration() < ApplicationChangeHelper.fetchOldestGeneration(localDslContext)) {
+            throw new ExpiredChangesTokenException(since.toString());
+        }
+
+        final ApplicationChange previousChange = APPLICATION_CHANGE.as("previous_change");
+        final Field<Boolean> visibleBefore = DSL.field(DSL.select(previousChange.VISIBLE)
+                .from(previousChange)
+                .where(previousChange.ID_RDOMAIN.eq(APPLICATION_CHANGE.ID_RDOMAIN))
+                .and(previousChange.GENERATION.le(since.getGeneration()))
+                .orderBy(previousChange.GENERATION.desc(), previousChange.ID.desc())
+                .limit(1))
+                .as("visible_before");
+
+        final Map<String, Boolean> changedApplications = QueryNameHelper.named(localDslContext, "stb.changes").selectDistinct(APPLICATION_CHANGE.ID_RDOMAIN, visibleBefore)
+                .from(APPLICATION_CHANGE)
+                .where(APPLICATION_CHANGE.GENERATION.gt(since.getGeneration()))
+                .and(APPLICATION_CHANGE.GENERATION.le(currentGeneration))
+                .fetchMap(APPLICATION_CHANGE.ID_RDOMAIN, visibleBefore);
+
+        final StbApplicationChanges applicationChanges = new StbApplicationChanges()
+                .added(new ArrayList<>())
+                .updated(new ArrayList<>())
+                .removed(new ArrayList<>())
+                .token(ChangesToken.of(currentGeneration).toString());
+        if (changedApplications.isEmpty()) {
+            return applicationChanges;
+        }
+
+        final List<StbApplicationHeader> listedApplications = selectApplicationHeaders(QueryNameHelper.named(localDslContext, "stb.changedApplications"), latestOrPreferredApplications())
+                .and(APPLICATION.ID_RDOMAIN.in(changedApplications.keySet()))
+                .orderBy(PREFERRED_VERSION_ORDER)
+                .fetch(PersistentAppsService::toApplicationHeader);
+
+        final Set<String> listedApplicationIds = new HashSet<>();
+        for (StbApplicationHeader applicationHeader : listedApplications) {
+            listedApplicationIds.add(applicationHeader.getId());
+            if (Boolean.TRUE.equals(changedApplications.get(applicationHeader.getId()))) {
+                applicationChanges.addUpdatedItem(applicationHeader);
+            } else {
+                applicationChanges.addAddedItem(applicationHeader);
+            }
+        }
+        changedApplications.entrySet().stream()
+                .filter(changedApplication -> Boolean.TRUE.equals(changedApplication.getValue()))
+                .map(Map.Entry::getKey)
+                .filter(appId -> !listedApplicationIds.contains(appId))
+                .sorted()
+                .forEach(applicationChanges::addRemovedItem);
+
+        return applicationChanges;
+    }
+
+    @Override
+    public Optional<StbApplicationDetails> getApplicationDetails(String appId, String version, String platformName, String firmwareVer) {
+        return getApplicationMetadata(appId, version)
+                .map(applicationMetadata -> applicationMetadata.toApplicationDetails(applicationUrlService, platformName, firmwareVer));
+    }
+
+    @Override
+    public Optional<StbApplicationDetails> getApplicationDetails(String appId, String platformName, String firmwareVer) {
+        return getApplicationMetadata(appId)
+                .map(applicationMetadata -> applicationMetadata.toApplicationDetails(applicationUrlService, platformName, firmwareVer));
+    }
+
+    private Optional<StbApplicationMetadata> fetchApplicationMetadata(Table<?> applications, Condition condition, Field<String> typeField) {
+        final Field<String> applicationType = typeField.as(APPLICATION_TYPE_FIELD);
+
+        return QueryNameHelper.named(dslContext, "stb.details").select(applicationMetadataFields(applicationType))
+                .from(MAINTAINER)
+                .innerJoin(applications)
+                .on(MAINTAINER.ID.eq(APPLICATION.MAINTAINER_ID))
+                .where(condition)
+                .and(APPLICATION.VISIBLE.eq(true))
+                .orderBy(APPLICATION.PREFERRED.desc())
+                .limit(1)
+                .fetchOptional()
+                .map(applicationMetadataRecord -> toApplicationMetadata(applicationMetadataRecord, applicationType));
+    }
+
+    private static List<Field<?>> applicationMetadataFields(Field<String> applicationType, Field<?>... additionalFields) {
+        final Application visibleVersion = APPLICATION.as("visible_version");
+        final Field<String[]> versions = DSL.field(DSL.select(DSL.arrayAgg(visibleVersion.VERSION).orderBy(versionOrder(visibleVersion)))
+                .from(visibleVersion)
+                .where(visibleVersion.ID_RDOMAIN.eq(APPLICATION.ID_RDOMAIN))
+                .and(visibleVersion.VISIBLE.isTrue()))
+                .as(VERSIONS_FIELD);
+
+        final List<Field<?>> fields = new ArrayList<>(List.of(
+                MAINTAINER.CODE,
+                MAINTAINER.NAME,
+                MAINTAINER.ADDRESS,
+                MAINTAINER.HOMEPAGE,
+                MAINTAINER.EMAIL,
+                APPLICATION.ID_RDOMAIN,
+                APPLICATION.VERSION,
+                APPLICATION.ICON,
+                APPLICATION.NAME,
+                APPLICATION.DESCRIPTION,
+                APPLICATION.TYPE,
+                APPLICATION.CATEGORY,
+                APPLICATION.LOCALIZATIONS,
+                APPLICATION.PLATFORM,
+                APPLICATION.HARDWARE,
+                APPLICATION.FEATURES,
+                APPLICATION.DEPENDENCIES,
+                APPLICATION.SIZE,
+                APPLICATION.OCI_IMAGE_URL,
+                applicationType,
+                versions));
+        fields.addAll(Arrays.asList(additionalFields));
+        return fields;
+    }
+
+    private static StbApplicationMetadata toApplicationMetadata(Record applicationMetadataRecord, Field<String> applicationType) {
+        final StbSingleApplicationHeader applicationHeader = new StbSingleApplicationHeader()
+                .id(applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN))
+                .version(applicationMetadataRecord.get(APPLICATION.VERSION))
+                .icon(applicationMetadataRecord.get(APPLICATION.ICON))
+                .name(applicationMetadataRecord.get(APPLICATION.NAME))
+                .description(applicationMetadataRecord.get(APPLICATION.DESCRIPTION))
+                .type(applicationMetadataRecord.get(APPLICATION.TYPE))
+                .size(applicationMetadataRecord.get(APPLICATION.SIZE))
+                .category(Category.fromValue(applicationMetadataRecord.get(APPLICATION.CATEGORY)))
+                .localization(applicationMetadataRecord.get(APPLICATION.LOCALIZATIONS));
+
+        final StbApplicationDetails applicationDetails = new StbApplicationDetails()
+                .header(applicationHeader)
+                .maintainer(new com.lgi.appstore.metadata.model.Maintainer()
+                        .code(applicationMetadataRecord.get(MAINTAINER.CODE))
+                        .name(applicationMetadataRecord.get(MAINTAINER.NAME))
+                        .address(applicationMetadataRecord.get(MAINTAINER.ADDRESS))
+                        .homepage(applicationMetadataRecord.get(MAINTAINER.HOMEPAGE))
+                        .email(applicationMetadataRecord.get(MAINTAINER.EMAIL)))
+                .versions(Arrays.stream(applicationMetadataRecord.get(VERSIONS_FIELD, String[].class))
+                        .map(version -> new StbVersion().version(version))
+                        .collect(Collectors.toList()))
+                .requirements(new Requirements()
+                        .dependencies(applicationMetadataRecord.get(APPLICATION.DEPENDENCIES))
+                        .features(applicationMetadataRecord.get(APPLICATION.FEATURES))
+                        .hardware(applicationMetadataRecord.get(APPLICATION.HARDWARE))
+                        .platform(applicationMetadataRecord.get(APPLICATION.PLATFORM)));
+
+        return new StbApplicationMetadata(new AppIdWithType(applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN), applicationMetadataRecord.get(applicationType)),
+                applicationDetails,
+                applicationMetadataRecord.get(APPLICATION.OCI_IMAGE_URL));
+    }
+
+    private static SelectConditionStep<Record10<String, String, String, String, String, String, Integer, String, List<Localization>, Boolean>> selectApplicationHeaders(DSLContext context, Table<?> applications) {
+        return context.select(
                         APPLICATION.ID_RDOMAIN,
                         APPLICATION.VERSION,
                         APPLICATION.ICON,
@@ -128,17 +406,14 @@ public class PersistentAppsService implements AppsService {
                         APPLICATION.CATEGORY,
                         APPLICATION.LOCALIZATIONS,
                         APPLICATION.PREFERRED)
-                .from(APPLICATION)
-                .leftJoin(MAINTAINER)
-                .on(APPLICATION.MAINTAINER_ID.eq(MAINTAINER.ID))
-                .where(APPLICATION.VISIBLE.eq(true));
-
-        final SelectConditionStep<Record1<Integer>> whereTotal = dslContext.selectCount()
-                .from(APPLICATION)
+                .distinctOn(APPLICATION.ID_RDOMAIN)
+                .from(applications)
                 .leftJoin(MAINTAINER)
                 .on(APPLICATION.MAINTAINER_ID.eq(MAINTAINER.ID))
                 .where(APPLICATION.VISIBLE.eq(true));
+    }
 
+    private static Condition listCondition(String name, String description, String version, String type, Platform platform, Category category, String maintainerName) {
         Condition condition = DSL.noCondition();
         if (name != null) {
             condition = condition.and(APPLICATION.NAME.containsIgnoreCase(name));
@@ -148,24 +423,12 @@ public class PersistentAppsService implements AppsService {
         }
         if (version != null) {
             condition = condition.and(APPLICATION.VERSION.eq(version));
-        } else {
-            condition = condition.and(DSL.condition(APPLICATION.LATEST.getQualifiedName() + " -> 'stb' = 'true'")
-                    .or(APPLICATION.PREFERRED.eq(true)));
         }
         if (type != null) {
             condition = condition.and(APPLICATION.TYPE.contains(type));
         }
         if (platform != null) {
-            if (platform.getArchitecture() != null) {
-                condition = condition
-                        .and(DSL.condition(APPLICATION.PLATFORM.getQualifiedName() + " ->> 'architecture' = '" + platform.getArchitecture() + "'"));
-            }
-            if (platform.getVariant() != null) {
-                condition = condition.and(DSL.condition(APPLICATION.PLATFORM.getQualifiedName() + " ->> 'variant' = '" + platform.getVariant() + "'"));
-            }
-            if (platform.getOs() != null) {
-                condition = condition.and(DSL.condition(APPLICATION.PLATFORM.getQualifiedName() + " ->> 'os' = '" + platform.getOs() + "'"));
-            }
+            condition = condition.and(ApplicationFilterHelper.platformCondition(platform));
         }
         if (category != null) {
             condition = condition.and(APPLICATION.CATEGORY.contains(category.toString()));
@@ -174,238 +437,65 @@ public class PersistentAppsService implements AppsService {
         if (maintainerName != null) {
             condition = condition.and(MAINTAINER.NAME.eq(maintainerName));
         }
+        return condition;
+    }
 
-        final Integer total = whereTotal.and(condition).fetchSingle().component1();
-
-        final int effectiveOffset = offset != null ? offset : 0;
-        final int effectiveLimit = limit != null ? limit : 0;
-        
-        var readyToLimit = where
-            .and(condition)
-            .offset(effectiveOffset);
-
-        var result = (effectiveLimit != 0 ? readyToLimit.limit(effectiveLimit) : readyToLimit).fetch();
-
-        final List<StbApplicationHeader> applicationHeaderList = ApplicationPreferredHelper.matchByPreferredVersionForListStb(result)
-                        .stream()
-                        .map(applicationMetadataRecord -> new StbApplicationHeader()
-                        .id(applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN))
-                        .version(applicationMetadataRecord.get(APPLICATION.VERSION))
-                        .icon(applicationMetadataRecord.get(APPLICATION.ICON))
-                        .name(applicationMetadataRecord.get(APPLICATION.NAME))
-                        .description(applicationMetadataRecord.get(APPLICATION.DESCRIPTION))
-                        .type(applicationMetadataRecord.get(APPLICATION.TYPE))
-                        .size(applicationMetadataRecord.get(APPLICATION.SIZE))
-                        .category(Category.fromValue(applicationMetadataRecord.get(APPLICATION.CATEGORY)))
-                        .localization(jsonProcessorHelper
-                                .readValue(JsonObjectNames.LOCALIZATIONS, applicationMetadataRecord.get(APPLICATION.LOCALIZATIONS).data(),
-                                        new TypeReference<>() {
-                                        })))
-                .collect(Collectors.toList());
+    private static Integer total(DSLContext context, IncludeTotal includeTotal, Table<?> applications, Condition condition) {
+        final SelectConditionStep<Record1<Integer>> whereTotal = context.select(DSL.countDistinct(APPLICATION.ID_RDOMAIN))
+                .from(applications)
+                .leftJoin(MAINTAINER)
+                .on(APPLICATION.MAINTAINER_ID.eq(MAINTAINER.ID))
+                .where(APPLICATION.VISIBLE.eq(true));
 
-        final Meta meta = new Meta()
-                .resultSet(
-                        new ResultSetMeta()
-                                .offset(effectiveOffset)
-                                .limit(effectiveLimit)
-                                .count(applicationHeaderList.size())
-                                .total(total)
-                );
+        final SelectConditionStep<Record1<String>> whereRows = context.selectDistinct(APPLICATION.ID_RDOMAIN)
+                .from(applications)
+                .leftJoin(MAINTAINER)
+                .on(APPLICATION.MAINTAINER_ID.eq(MAINTAINER.ID))
+                .where(APPLICATION.VISIBLE.eq(true));
 
-        return new StbApplicationsList()
-                .applications(applicationHeaderList)
-                .meta(meta);
+        return TotalCountHelper.total(context, includeTotal, whereTotal.and(condition), whereRows.and(condition));
     }
 
-    @Override
-    public Optional<StbApplicationDetails> getApplicationDetails(String appId, String version, String platformName, String firmwareVer) {
+    private static StbApplicationHeader toApplicationHeader(Record10<String, String, String, String, String, String, Integer, String, List<Localization>, Boolean> applicationMetadataRecord) {
+        return new StbApplicationHeader()
+                .id(applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN))
+                .version(applicationMetadataRecord.get(APPLICATION.VERSION))
+                .icon(applicationMetadataRecord.get(APPLICATION.ICON))
+                .name(applicationMetadataRecord.get(APPLICATION.NAME))
+                .description(applicationMetadataRecord.get(APPLICATION.DESCRIPTION))
+                .type(applicationMetadataRecord.get(APPLICATION.TYPE))
+                .size(applicationMetadataRecord.get(APPLICATION.SIZE))
+                .category(Category.fromValue(applicationMetadataRecord.get(APPLICATION.CATEGORY)))
+                .localization(applicationMetadataRecord.get(APPLICATION.LOCALIZATIONS));
+    }
 
-        final List<StbVersion> versions = dslContext.select(
-                        APPLICATION.VERSION
-                )
-
-                .from(APPLICATION)
-                .where(APPLICATION.ID_RDOMAIN.eq(appId))
-                .and(APPLICATION.VISIBLE.isTrue())
-                .orderBy(VERSION_SORT_FIELD)
-                .fetch()
-                .stream()
-                .map(applicationVersionRecord -> new StbVersion()
-                        .version(applicationVersionRecord.get(APPLICATION.VERSION))).collect(Collectors.toList());
-
-        var result = dslContext.select(
-                        MAINTAINER.CODE,
-                        MAINTAINER.NAME,
-                        MAINTAINER.ADDRESS,
-                        MAINTAINER.HOMEPAGE,
-                        MAINTAINER.EMAIL,
-                        APPLICATION.ID_RDOMAIN,
-                        APPLICATION.VERSION,
-                        APPLICATION.ICON,
-                        APPLICATION.NAME,
-                        APPLICATION.DESCRIPTION,
-                        APPLICATION.TYPE,
-                        APPLICATION.CATEGORY,
-                        APPLICATION.LOCALIZATIONS,
-                        APPLICATION.PLATFORM,
-                        APPLICATION.HARDWARE,
-                        APPLICATION.FEATURES,
-                        APPLICATION.DEPENDENCIES,
-                        APPLICATION.SIZE,
-                        APPLICATION.OCI_IMAGE_URL,
-                        APPLICATION.PREFERRED
-                )
+    private static Condition latestOrPreferredCondition() {
+        return APPLICATION.ID.in(APPLICATION_LATEST.STB_LATEST_ID, APPLICATION_LATEST.PREFERRED_ID);
+    }
 
-                .from(MAINTAINER)
-                .innerJoin(APPLICATION)
-                .on(MAINTAINER.ID.eq(APPLICATION.MAINTAINER_ID))
-                .where(APPLICATION.ID_RDOMAIN.eq(appId))
-                .and(APPLICATION.VERSION.eq(version))
-                .and(APPLICATION.VISIBLE.eq(true))
-                .fetch();
-
-        return ApplicationPreferredHelper.matchByPreferredVersionForDetailsStb(result)
-                .map(applicationMetadataRecord -> {
-                    final StbSingleApplicationHeader applicationHeader = new StbSingleApplicationHeader()
-                            .id(applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN))
-                            .version(applicationMetadataRecord.get(APPLICATION.VERSION))
-                            .icon(applicationMetadataRecord.get(APPLICATION.ICON))
-                            .name(applicationMetadataRecord.get(APPLICATION.NAME))
-                            .description(applicationMetadataRecord.get(APPLICATION.DESCRIPTION))
-                            .url(createApplicationUrlFromApplicationRecord(applicationMetadataRecord, platformName, firmwareVer))
-                            .type(applicationMetadataRecord.get(APPLICATION.TYPE))
-                            .size(applicationMetadataRecord.get(APPLICATION.SIZE))
-                            .category(Category.fromValue(applicationMetadataRecord.get(APPLICATION.CATEGORY)))
-                            .localization(jsonProcessorHelper
-                                    .readValue(JsonObjectNames.LOCALIZATIONS, applicationMetadataRecord.get(APPLICATION.LOCALIZATIONS).data(),
-                                            new TypeReference<>() {
-                                            }));
-
-                    return new StbApplicationDetails()
-                            .header(applicationHeader)
-                            .maintainer(new com.lgi.appstore.metadata.model.Maintainer()
-                                    .code(applicationMetadataRecord.get(MAINTAINER.CODE))
-                                    .name(applicationMetadataRecord.get(MAINTAINER.NAME))
-                                    .address(applicationMetadataRecord.get(MAINTAINER.ADDRESS))
-                                    .homepage(applicationMetadataRecord.get(MAINTAINER.HOMEPAGE))
-                                    .email(applicationMetadataRecord.get(MAINTAINER.EMAIL)))
-                            .versions(versions)
-                            .requirements(new Requirements()
-                                    .dependencies(jsonProcessorHelper
-                                            .readValue(JsonObjectNames.DEPENDENCIES, applicationMetadataRecord.get(APPLICATION.DEPENDENCIES).data(),
-                                                    new TypeReference<>() {
-                                                    }))
-                                    .features(jsonProcessorHelper
-                                            .readValue(JsonObjectNames.FEATURES, applicationMetadataRecord.get(APPLICATION.FEATURES).data(),
-                                                    new TypeReference<>() {
-                                                    }))
-                                    .hardware(jsonProcessorHelper
-                                            .readValue(JsonObjectNames.HARDWARE, applicationMetadataRecord.get(APPLICATION.HARDWARE).data(), Hardware.class))
-                                    .platform(jsonProcessorHelper
-                                            .readValue(JsonObjectNames.PLATFORM, applicationMetadataRecord.get(APPLICATION.PLATFORM).data(), Platform.class)));
-                });
+    private static Table<?> latestOrPreferredApplications() {
+        return APPLICATION_LATEST.innerJoin(APPLICATION).on(latestOrPreferredCondition());
     }
 
-    @Override
-    public Optional<StbApplicationDetails> getApplicationDetails(String appId, String platformName, String firmwareVer) {
-        final List<StbVersion> versions = dslContext.select(
-                        APPLICATION.VERSION
-                )
-
-                .from(APPLICATION)
-                .where(APPLICATION.ID_RDOMAIN.eq(appId))
-                .and(APPLICATION.VISIBLE.isTrue())
-                .orderBy(VERSION_SORT_FIELD)
-                .fetch()
-                .stream()
-                .map(applicationVersionRecord -> new StbVersion()
-                        .version(applicationVersionRecord.get(APPLICATION.VERSION))).collect(Collectors.toList());
-
-        var result = dslContext.select(
-                        MAINTAINER.CODE,
-                        MAINTAINER.NAME,
-                        MAINTAINER.ADDRESS,
-                        MAINTAINER.HOMEPAGE,
-                        MAINTAINER.EMAIL,
-                        APPLICATION.ID_RDOMAIN,
-                        APPLICATION.VERSION,
-                        APPLICATION.ICON,
-                        APPLICATION.NAME,
-                        APPLICATION.DESCRIPTION,
-                        APPLICATION.TYPE,
-                        APPLICATION.CATEGORY,
-                        APPLICATION.LOCALIZATIONS,
-                        APPLICATION.PLATFORM,
-                        APPLICATION.HARDWARE,
-                        APPLICATION.FEATURES,
-                        APPLICATION.DEPENDENCIES,
-                        APPLICATION.SIZE,
-                        APPLICATION.OCI_IMAGE_URL,
-                        APPLICATION.PREFERRED
-                )
+    private static Table<?> applications(String version) {
+        return version != null ? APPLICATION : latestOrPreferredApplications();
+    }
 
-                .from(MAINTAINER)
-                .innerJoin(APPLICATION)
-                .on(MAINTAINER.ID.eq(APPLICATION.MAINTAINER_ID))
-                .where(APPLICATION.ID_RDOMAIN.eq(appId))
-                .and(DSL.condition(APPLICATION.LATEST.getQualifiedName() + " -> 'stb' = 'true'")
-                        .or(APPLICATION.PREFERRED.eq(true)))
-                .and(APPLICATION.VISIBLE.eq(true))
-                .fetch();
-
-        return ApplicationPreferredHelper.matchByPreferredVersionForDetailsStb(result)
-                .map(applicationMetadataRecord -> {
-                    final StbSingleApplicationHeader applicationHeader = new StbSingleApplicationHeader()
-                            .id(applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN))
-                            .version(applicationMetadataRecord.get(APPLICATION.VERSION))
-                            .icon(applicationMetadataRecord.get(APPLICATION.ICON))
-                            .name(applicationMetadataRecord.get(APPLICATION.NAME))
-                            .description(applicationMetadataRecord.get(APPLICATION.DESCRIPTION))
-                            .url(createApplicationUrlFromApplicationRecord(applicationMetadataRecord, platformName, firmwareVer))
-                            .type(applicationMetadataRecord.get(APPLICATION.TYPE))
-                            .size(applicationMetadataRecord.get(APPLICATION.SIZE))
-                            .category(Category.fromValue(applicationMetadataRecord.get(APPLICATION.CATEGORY)))
-                            .localization(jsonProcessorHelper
-                                    .readValue(JsonObjectNames.LOCALIZATIONS, applicationMetadataRecord.get(APPLICATION.LOCALIZATIONS).data(), new TypeReference<>() {
-                                    }));
-
-                    return new StbApplicationDetails()
-                            .header(applicationHeader)
-                            .maintainer(new com.lgi.appstore.metadata.model.Maintainer()
-                                    .code(applicationMetadataRecord.get(MAINTAINER.CODE))
-                                    .name(applicationMetadataRecord.get(MAINTAINER.NAME))
-                                    .address(applicationMetadataRecord.get(MAINTAINER.ADDRESS))
-                                    .homepage(applicationMetadataRecord.get(MAINTAINER.HOMEPAGE))
-                                    .email(applicationMetadataRecord.get(MAINTAINER.EMAIL)))
-                            .versions(versions)
-                            .requirements(new Requirements()
-                                    .dependencies(jsonProcessorHelper
-                                            .readValue(JsonObjectNames.DEPENDENCIES, applicationMetadataRecord.get(APPLICATION.DEPENDENCIES).data(),
-                                                    new TypeReference<>() {
-                                                    }))
-                                    .features(jsonProcessorHelper
-                                            .readValue(JsonObjectNames.FEATURES, applicationMetadataRecord.get(APPLICATION.FEATURES).data(),
-                                                    new TypeReference<>() {
-                                                    }))
-                                    .hardware(jsonProcessorHelper
-                                            .readValue(JsonObjectNames.HARDWARE, applicationMetadataRecord.get(APPLICATION.HARDWARE).data(), Hardware.class))
-                                    .platform(jsonProcessorHelper
-                                            .readValue(JsonObjectNames.PLATFORM, applicationMetadataRecord.get(APPLICATION.PLATFORM).data(), Platform.class)));
-                });
+    private static Field<String> latestVersionType() {
+        final Application latestVersion = APPLICATION.as("latest_version");
+        return DSL.field(DSL.select(latestVersion.TYPE)
+                .from(latestVersion)
+                .where(latestVersion.ID.eq(APPLICATION_LATEST.STB_LATEST_ID)));
     }
 
-    private String createApplicationUrlFromApplicationRecord(Record applicationMetadataRecord, String platformName, String firmwareVer) {
-        return applicationUrlService.createApplicationUrlFromApplicationRecord(new ApplicationUrlService.ApplicationUrlParams(
-                applicationMetadataRecord.get(APPLICATION.TYPE),
-                platformName,
-                firmwareVer,
-                applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN),
-                applicationMetadataRecord.get(APPLICATION.VERSION),
-                applicationMetadataRecord.get(APPLICATION.OCI_IMAGE_URL))
-        );
+    private static List<SortField<?>> versionOrder(Application application) {
+        return List.of(
+                application.VERSION_CORE.desc().nullsLast(),
+                application.VERSION_PRE.desc().nullsFirst(),
+                application.ID.desc());
     }
 
-    private AppIdWithType getAppIdWithType(String appId, Record sqlRecord) {
-        return new AppIdWithType(appId, sqlRecord.get(APPLICATION.TYPE));
+    private static String nextCursor(StbApplicationHeader lastApplicationHeader) {
+        return ApplicationCursor.of(lastApplicationHeader.getId(), lastApplicationHeader.getVersion()).toString();
     }
 }
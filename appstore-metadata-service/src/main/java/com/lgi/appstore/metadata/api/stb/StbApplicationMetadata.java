@@ -0,0 +1,73 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb;
+
+import com.lgi.appstore.metadata.model.AppIdWithType;
+import com.lgi.appstore.metadata.model.StbApplicationDetails;
+import com.lgi.appstore.metadata.model.StbSingleApplicationHeader;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+
+import static java.util.Objects.requireNonNull;
+
+public class StbApplicationMetadata {
+    private final AppIdWithType appIdWithType;
+    private final StbApplicationDetails applicationDetails;
+    private final String ociImageUrl;
+
+    public StbApplicationMetadata(AppIdWithType appIdWithType, StbApplicationDetails applicationDetails, String ociImageUrl) {
+        this.appIdWithType = requireNonNull(appIdWithType, "appIdWithType");
+        this.applicationDetails = requireNonNull(applicationDetails, "applicationDetails");
+        this.ociImageUrl = ociImageUrl;
+    }
+
+    public AppIdWithType getAppIdWithType() {
+        return appIdWithType;
+    }
+
+    public StbApplicationDetails getApplicationDetails() {
+        return applicationDetails;
+    }
+
+    public StbApplicationDetails toApplicationDetails(ApplicationUrlService applicationUrlService, String platformName, String firmwareVer) {
+        final StbSingleApplicationHeader header = applicationDetails.getHeader();
+        final String url = applicationUrlService.createApplicationUrlFromApplicationRecord(new ApplicationUrlService.ApplicationUrlParams(
+                header.getType(),
+                platformName,
+                firmwareVer,
+                header.getId(),
+                header.getVersion(),
+                ociImageUrl));
+
+        return new StbApplicationDetails()
+                .header(new StbSingleApplicationHeader()
+                        .id(header.getId())
+                        .version(header.getVersion())
+                        .icon(header.getIcon())
+                        .name(header.getName())
+                        .description(header.getDescription())
+                        .url(url)
+                        .type(header.getType())
+                        .size(header.getSize())
+                        .category(header.getCategory())
+                        .localization(header.getLocalization()))
+                .maintainer(applicationDetails.getMaintainer())
+                .versions(applicationDetails.getVersions())
+                .requirements(applicationDetails.getRequirements());
+    }
+}
@@ -18,31 +18,65 @@
  */
 package com.lgi.appstore.metadata.api.stb;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lgi.appstore.metadata.api.catalog.CatalogGeneration;
+import com.lgi.appstore.metadata.api.catalog.CatalogGenerationService;
+import com.lgi.appstore.metadata.api.error.InvalidApplicationIdException;
+import com.lgi.appstore.metadata.api.filter.PayloadLogHelper;
+import com.lgi.appstore.metadata.api.stb.catalog.StbCatalogResponse;
+import com.lgi.appstore.metadata.api.stb.catalog.StbCatalogResponseCache;
 import com.lgi.appstore.metadata.api.stb.input.StbAppsListParams;
 import com.lgi.appstore.metadata.api.stb.input.validator.PlatformAndVersionOptionalForWebValidator;
 import com.lgi.appstore.metadata.api.stb.input.validator.PlatformAndVersionOptionalForWebValidator.PlatformAndVersionValidationResult;
 import com.lgi.appstore.metadata.model.AppIdWithType;
 import com.lgi.appstore.metadata.model.AppIdWithVersion;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.ChangesToken;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Meta;
 import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.StbApplicationChanges;
 import com.lgi.appstore.metadata.model.StbApplicationDetails;
+import com.lgi.appstore.metadata.model.StbApplicationDetailsBatch;
+import com.lgi.appstore.metadata.model.StbApplicationDetailsBatchRequest;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
 import com.lgi.appstore.metadata.model.StbApplicationsList;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/apps")
 public class StbAppsController {
     private static final Logger LOG = LoggerFactory.getLogger(StbAppsController.class);
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String APPLICATIONS_FIELD = "applications";
+    private static final String META_FIELD = "meta";
 
     @Autowired
     private AppsService appsService;
@@ -50,51 +84,229 @@ public class StbAppsController {
     @Autowired
     private PlatformAndVersionOptionalForWebValidator platformAndVersionOptionalForWebValidator;
 
+    @Autowired
+    private ApplicationUrlService applicationUrlService;
+
+    @Autowired
+    private CatalogGenerationService catalogGenerationService;
+
+    @Autowired
+    private Optional<StbCatalogResponseCache> catalogResponseCache = Optional.empty();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${stbCatalog.streaming.enabled}")
+    private boolean streamingEnabled;
+
+    @GetMapping(value = "/changes",
+            produces = {"application/json"})
+    public ResponseEntity<StbApplicationChanges> listApplicationChanges(@RequestParam(value = "since") ChangesToken since, WebRequest webRequest) {
+        LOG.info("GET /apps/changes called with the following parameters: since = '{}'", since);
+        if (isNotModified(webRequest, catalogGenerationService.currentGeneration())) {
+            return null;
+        }
+
+        final StbApplicationChanges applicationChanges = appsService.listApplicationChanges(since);
+
+        LOG.info("Returning {} added, {} updated and {} removed applications", applicationChanges.getAdded().size(),
+                applicationChanges.getUpdated().size(), applicationChanges.getRemoved().size());
+
+        return ResponseEntity.ok(applicationChanges);
+    }
+
+    @PostMapping(value = "/details:batch",
+            consumes = {"application/json"},
+            produces = {"application/json"})
+    public ResponseEntity<StbApplicationDetailsBatch> getApplicationDetailsBatch(@Valid @RequestBody StbApplicationDetailsBatchRequest batchRequest) {
+        LOG.info("POST /apps/details:batch called with the following parameters: applications = {}, platformName = '{}', firmwareVer = '{}'",
+                batchRequest.getApplications(), batchRequest.getPlatformName(), batchRequest.getFirmwareVer());
+
+        final Map<String, AppIdWithVersion> appIdsWithVersions = new LinkedHashMap<>();
+        for (String applicationId : batchRequest.getApplications()) {
+            appIdsWithVersions.put(applicationId, parseApplicationId(applicationId));
+        }
+
+        final Map<Pair<String, String>, StbApplicationMetadata> applicationsMetadata = appsService.getApplicationsMetadata(appIdsWithVersions.values().stream()
+                .filter(appIdWithVersion -> !appIdWithVersion.isAll())
+                .map(appIdWithVersion -> Pair.of(appIdWithVersion.getAppId(), appIdWithVersion.getVersion()))
+                .collect(Collectors.toSet()));
+
+        final StbApplicationDetailsBatch applicationDetailsBatch = new StbApplicationDetailsBatch()
+                .applications(new ArrayList<>())
+                .notFound(new ArrayList<>());
+        appIdsWithVersions.forEach((applicationId, appIdWithVersion) -> {
+            final StbApplicationMetadata applicationMetadata = appIdWithVersion.isAll() ? null :
+                    applicationsMetadata.get(Pair.of(appIdWithVersion.getAppId(), appIdWithVersion.getVersion()));
+            if (applicationMetadata == null) {
+                applicationDetailsBatch.getNotFound().add(applicationId);
+                return;
+            }
+
+            final StbAppsListParams appsListParams = new StbAppsListParams(applicationId);
+            appsListParams.setPlatformName(batchRequest.getPlatformName());
+            appsListParams.setFirmwareVer(batchRequest.getFirmwareVer());
+            final boolean ignorePlatformAndFirmwareVersion = validatePlatformAndVersionForWeb(appsListParams, applicationMetadata.getAppIdWithType())
+                    .platformAndVersionMustBeIgnored();
+            final String platformName = ignorePlatformAndFirmwareVersion ? null : batchRequest.getPlatformName();
+            final String firmwareVer = ignorePlatformAndFirmwareVersion ? null : batchRequest.getFirmwareVer();
+
+            applicationDetailsBatch.getApplications().add(applicationMetadata.toApplicationDetails(applicationUrlService, platformName, firmwareVer));
+        });
+
+        LOG.info("Returning {} applications, {} not found", applicationDetailsBatch.getApplications().size(), applicationDetailsBatch.getNotFound().size());
+
+        return ResponseEntity.ok(applicationDetailsBatch);
+    }
+
     @GetMapping(value = "/{appId:.+}",
             produces = {"application/json"})
-    public ResponseEntity<StbApplicationDetails> getApplicationDetails(StbAppsListParams appsListParams) {
+    public ResponseEntity<StbApplicationDetails> getApplicationDetails(StbAppsListParams appsListParams, WebRequest webRequest) {
+        if (isNotModified(webRequest, catalogGenerationService.currentGeneration())) {
+            return null;
+        }
+
         final AppIdWithVersion appIdWithVersion = AppIdWithVersion.fromString(appsListParams.getAppId());
-        final var applicationType =  appIdWithVersion.isLatest() ?
-                appsService.getApplicationType(appIdWithVersion.getAppId()) :
-                appsService.getApplicationType(appIdWithVersion.getAppId(), appIdWithVersion.getVersion());
+        final Optional<StbApplicationMetadata> applicationMetadata = appIdWithVersion.isLatest() ?
+                appsService.getApplicationMetadata(appIdWithVersion.getAppId()) :
+                appsService.getApplicationMetadata(appIdWithVersion.getAppId(), appIdWithVersion.getVersion());
 
-        final boolean ignorePlatformAndFirmwareVersion = applicationType.map(appIdWithType -> validatePlatformAndVersionForWeb(appsListParams, appIdWithType))
+        final boolean ignorePlatformAndFirmwareVersion = applicationMetadata.map(StbApplicationMetadata::getAppIdWithType)
+                .map(appIdWithType -> validatePlatformAndVersionForWeb(appsListParams, appIdWithType))
                 .map(PlatformAndVersionValidationResult::platformAndVersionMustBeIgnored)
                 .orElse(Boolean.FALSE);
 
         LOG.info("GET /apps/{appId} called with the following parameters: appId = '{}', version = '{}'", appIdWithVersion.getAppId(), appIdWithVersion.getVersion());
         final String platformName = ignorePlatformAndFirmwareVersion ? null : appsListParams.getPlatformName();
         final String firmwareVer = ignorePlatformAndFirmwareVersion ? null : appsListParams.getFirmwareVer();
-        
-        final Optional<StbApplicationDetails> applicationDetails = appIdWithVersion.isLatest()
-                ? appsService.getApplicationDetails(appIdWithVersion.getAppId(), platformName, firmwareVer)
-                : appsService.getApplicationDetails(appIdWithVersion.getAppId(), appIdWithVersion.getVersion(), platformName, firmwareVer);
 
-        LOG.info("Returning: {}", applicationDetails);
+        final Optional<StbApplicationDetails> applicationDetails = applicationMetadata
+                .map(metadata -> metadata.toApplicationDetails(applicationUrlService, platformName, firmwareVer));
+
+        PayloadLogHelper.logPayload(LOG, applicationDetails);
 
         return applicationDetails.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping(produces = {"application/json"})
-    public ResponseEntity<StbApplicationsList> listApplications(@Valid @RequestParam(value = "name", required = false) String name,
-                                                                @Valid @RequestParam(value = "description", required = false) String description,
-                                                                @Valid @RequestParam(value = "version", required = false) String version,
-                                                                @Valid @RequestParam(value = "type", required = false) String type,
-                                                                @Valid @RequestParam(value = "platform", required = false) Platform platform,
-                                                                @Valid @RequestParam(value = "category", required = false) Category category,
-                                                                @Valid @RequestParam(value = "maintainerName", required = false) String maintainerName,
-                                                                @Valid @RequestParam(value = "offset", required = false) Integer offset,
-                                                                @Valid @RequestParam(value = "limit", required = false) Integer limit) {
+    public ResponseEntity<?> listApplications(@Valid @RequestParam(value = "name", required = false) String name,
+                                              @Valid @RequestParam(value = "description", required = false) String description,
+                                              @Valid @RequestParam(value = "version", required = false) String version,
+                                              @Valid @RequestParam(value = "type", required = false) String type,
+                                              @Valid @RequestParam(value = "platform", required = false) Platform platform,
+                                              @Valid @RequestParam(value = "category", required = false) Category category,
+                                              @Valid @RequestParam(value = "maintainerName", required = false) String maintainerName,
+                                              @Valid @RequestParam(value = "offset", required = false) Integer offset,
+                                              @Valid @RequestParam(value = "limit", required = false) Integer limit,
+                                              @Valid @RequestParam(value = "cursor", required = false) ApplicationCursor cursor,
+                                              @Valid @RequestParam(value = "includeTotal", required = false) IncludeTotal includeTotal,
+                                              WebRequest webRequest,
+                                              HttpServletResponse response) throws IOException {
 
         LOG.info("GET /apps called");
+        final CatalogGeneration catalogGeneration = catalogGenerationService.currentGeneration();
+        final boolean cacheable = catalogResponseCache.isPresent()
+                && catalogResponseCache.get().isCacheable(name, description, version, type, maintainerName, offset, limit, cursor);
+        final boolean gzipped = cacheable && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (cacheable) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        final String eTag = gzipped ? catalogGeneration.getGzipETag() : catalogGeneration.getETag();
+        if (webRequest.checkNotModified(eTag, catalogGeneration.getModifiedAt().toEpochMilli())) {
+            return null;
+        }
+
+        if (cacheable) {
+            final StbCatalogResponse catalogResponse = catalogResponseCache.get().get(catalogGeneration.getGeneration(), platform, category, offset, limit, includeTotal,
+                    () -> appsService.listApplications(null, null, null, null, platform, category, null, offset, limit, null, includeTotal));
 
-        final StbApplicationsList applicationsList = appsService.listApplications(name, description, version, type, platform, category, maintainerName, offset, limit);
+            return serializedResponse(catalogResponse, gzipped);
+        }
 
-        LOG.info("Returning: {}", applicationsList);
+        if (streamingEnabled && limit == null && cursor == null) {
+            streamApplications(response, name, description, version, type, platform, category, maintainerName, offset, includeTotal);
+            return null;
+        }
+
+        final StbApplicationsList applicationsList = appsService.listApplications(name, description, version, type, platform, category, maintainerName, offset, limit, cursor, includeTotal);
+
+        LOG.info("Returning {} applications", applicationsList.getApplications().size());
+        PayloadLogHelper.logPayload(LOG, applicationsList);
 
         return ResponseEntity.ok(applicationsList);
     }
 
+    private boolean isNotModified(WebRequest webRequest, CatalogGeneration catalogGeneration) {
+        return webRequest.checkNotModified(catalogGeneration.getETag(), catalogGeneration.getModifiedAt().toEpochMilli());
+    }
+
+    private void streamApplications(HttpServletResponse response,
+                                    String name,
+                                    String description,
+                                    String version,
+                                    String type,
+                                    Platform platform,
+                                    Category category,
+                                    String maintainerName,
+                                    Integer offset,
+                                    IncludeTotal includeTotal) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(APPLICATIONS_FIELD);
+            final Meta meta = appsService.streamApplications(name, description, version, type, platform, category, maintainerName, offset, includeTotal,
+                    applicationHeader -> writeApplicationHeader(generator, applicationHeader));
+            generator.writeEndArray();
+            generator.writeObjectField(META_FIELD, meta);
+            generator.writeEndObject();
+            LOG.info("Returning streamed response of {} applications", meta.getResultSet().getCount());
+        }
+    }
+
+    private static void writeApplicationHeader(JsonGenerator generator, StbApplicationHeader applicationHeader) {
+        try {
+            generator.writeObject(applicationHeader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ResponseEntity<byte[]> serializedResponse(StbCatalogResponse catalogResponse, boolean gzipped) {
+        final ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (gzipped) {
+            LOG.info("Returning cached response of {} gzipped bytes", catalogResponse.getGzippedJson().length);
+            return responseBuilder
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+                    .body(catalogResponse.getGzippedJson());
+        }
+
+        LOG.info("Returning cached response of {} bytes", catalogResponse.getJson().length);
+        return responseBuilder.body(catalogResponse.getJson());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] codingWithParameters = coding.trim().split(";");
+            if (GZIP_ENCODING.equalsIgnoreCase(codingWithParameters[0].trim())) {
+                return codingWithParameters.length == 1 || !codingWithParameters[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static AppIdWithVersion parseApplicationId(String applicationId) {
+        try {
+            return AppIdWithVersion.fromString(applicationId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidApplicationIdException(applicationId, e);
+        }
+    }
+
     private PlatformAndVersionValidationResult validatePlatformAndVersionForWeb(StbAppsListParams appsListParams, AppIdWithType appIdWithType) {
         return platformAndVersionOptionalForWebValidator.validate(appsListParams, appIdWithType);
     }
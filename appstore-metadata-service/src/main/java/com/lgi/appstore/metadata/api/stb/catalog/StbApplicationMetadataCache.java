@@ -0,0 +1,158 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
+import com.lgi.appstore.metadata.api.stb.StbApplicationMetadata;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.StbApplicationDetails;
+import com.lgi.appstore.metadata.model.StbSingleApplicationHeader;
+import com.lgi.appstore.metadata.model.StbVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "stbCatalog.detailsCache.enabled", havingValue = "true")
+public class StbApplicationMetadataCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StbApplicationMetadataCache.class);
+
+    static final String CACHE_NAME = "stbApplicationDetails";
+    private static final String LATEST_VERSION = "latest";
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private final Cache<Pair<String, String>, Optional<StbApplicationMetadata>> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public StbApplicationMetadataCache(MeterRegistry meterRegistry,
+                                       @Value("${stbCatalog.detailsCache.maximumSize}") DataSize maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((Pair<String, String> key, Optional<StbApplicationMetadata> applicationMetadata) -> weigh(applicationMetadata))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<StbApplicationMetadata> getLatest(String appId, Supplier<Optional<StbApplicationMetadata>> loader) {
+        return get(Pair.of(appId, LATEST_VERSION), loader);
+    }
+
+    public Optional<StbApplicationMetadata> get(String appId, String version, Supplier<Optional<StbApplicationMetadata>> loader) {
+        return get(Pair.of(appId, version), loader);
+    }
+
+    public Map<Pair<String, String>, StbApplicationMetadata> getAll(Collection<Pair<String, String>> appIdsWithVersions,
+                                                                   Function<Collection<Pair<String, String>>, Map<Pair<String, String>, StbApplicationMetadata>> loader) {
+        final Set<Pair<String, String>> keys = new HashSet<>(appIdsWithVersions);
+        final long invalidationsBeforeLoad = invalidations.get();
+        final Map<Pair<String, String>, StbApplicationMetadata> applicationsMetadata = new HashMap<>();
+        cache.getAll(keys, missingKeys -> {
+            final List<Pair<String, String>> missingAppIdsWithVersions = new ArrayList<>();
+            missingKeys.forEach(missingAppIdsWithVersions::add);
+            final Map<Pair<String, String>, StbApplicationMetadata> loaded = loader.apply(missingAppIdsWithVersions);
+            final Map<Pair<String, String>, Optional<StbApplicationMetadata>> loadedByKey = new HashMap<>();
+            missingKeys.forEach(key -> loadedByKey.put(key, Optional.ofNullable(loaded.get(key))));
+            return loadedByKey;
+        }).forEach((key, applicationMetadata) -> applicationMetadata.ifPresent(metadata -> applicationsMetadata.put(key, metadata)));
+        dropIfInvalidatedSince(invalidationsBeforeLoad, keys);
+        return applicationsMetadata;
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        LOG.debug("Catalog changed: {}, evicting cached STB application details", event);
+        invalidations.incrementAndGet();
+        if (event.isWholeCatalog()) {
+            cache.invalidateAll();
+        } else {
+            cache.asMap().keySet().removeIf(key -> event.affects(key.getLeft()));
+        }
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Optional<StbApplicationMetadata> get(Pair<String, String> key, Supplier<Optional<StbApplicationMetadata>> loader) {
+        final long invalidationsBeforeLoad = invalidations.get();
+        final Optional<StbApplicationMetadata> applicationMetadata = cache.get(key, missingKey -> loader.get());
+        dropIfInvalidatedSince(invalidationsBeforeLoad, Set.of(key));
+        return applicationMetadata;
+    }
+
+    // an entry still being loaded when a change arrives is not seen by the eviction and may hold the previous details
+    private void dropIfInvalidatedSince(long invalidationsBeforeLoad, Set<Pair<String, String>> keys) {
+        if (invalidations.get() != invalidationsBeforeLoad) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    private static int weigh(Optional<StbApplicationMetadata> applicationMetadata) {
+        return applicationMetadata
+                .map(metadata -> ENTRY_OVERHEAD + estimateLength(metadata.getApplicationDetails()))
+                .orElse(1);
+    }
+
+    private static int estimateLength(StbApplicationDetails applicationDetails) {
+        final StbSingleApplicationHeader header = applicationDetails.getHeader();
+        int length = length(header.getId()) + length(header.getVersion()) + length(header.getName())
+                + length(header.getDescription()) + length(header.getIcon());
+        if (header.getLocalization() != null) {
+            for (Localization localization : header.getLocalization()) {
+                length += length(localization.getName()) + length(localization.getDescription());
+            }
+        }
+        if (applicationDetails.getVersions() != null) {
+            for (StbVersion version : applicationDetails.getVersions()) {
+                length += length(version.getVersion());
+            }
+        }
+        return length;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
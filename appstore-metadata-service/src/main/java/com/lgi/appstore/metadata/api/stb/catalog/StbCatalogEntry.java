@@ -0,0 +1,129 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+public final class StbCatalogEntry {
+    private final StbApplicationHeader header;
+    private final String category;
+    private final Platform platform;
+    private final String maintainerName;
+    private final boolean latest;
+    private final boolean preferred;
+    private final String lowerCaseName;
+    private final String lowerCaseDescription;
+
+    public StbCatalogEntry(StbApplicationHeader header,
+                           String category,
+                           Platform platform,
+                           String maintainerName,
+                           boolean latest,
+                           boolean preferred) {
+        this.header = copyOf(requireNonNull(header, "header"));
+        this.category = category;
+        this.platform = platform;
+        this.maintainerName = maintainerName;
+        this.latest = latest;
+        this.preferred = preferred;
+        this.lowerCaseName = toLowerCase(header.getName());
+        this.lowerCaseDescription = toLowerCase(header.getDescription());
+    }
+
+    public StbApplicationHeader toApplicationHeader() {
+        return copyOf(header);
+    }
+
+    public String getId() {
+        return header.getId();
+    }
+
+    public String getVersion() {
+        return header.getVersion();
+    }
+
+    public String getType() {
+        return header.getType();
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    public String getMaintainerName() {
+        return maintainerName;
+    }
+
+    public boolean isLatest() {
+        return latest;
+    }
+
+    public boolean isPreferred() {
+        return preferred;
+    }
+
+    boolean nameContains(String lowerCaseValue) {
+        return lowerCaseName != null && lowerCaseName.contains(lowerCaseValue);
+    }
+
+    boolean descriptionContains(String lowerCaseValue) {
+        return lowerCaseDescription != null && lowerCaseDescription.contains(lowerCaseValue);
+    }
+
+    private static StbApplicationHeader copyOf(StbApplicationHeader header) {
+        return new StbApplicationHeader()
+                .id(header.getId())
+                .version(header.getVersion())
+                .icon(header.getIcon())
+                .name(header.getName())
+                .description(header.getDescription())
+                .type(header.getType())
+                .size(header.getSize())
+                .category(header.getCategory())
+                .localization(copyOf(header.getLocalization()));
+    }
+
+    private static List<Localization> copyOf(List<Localization> localizations) {
+        if (localizations == null) {
+            return null;
+        }
+        return localizations.stream()
+                .map(localization -> new Localization()
+                        .languageCode(localization.getLanguageCode())
+                        .name(localization.getName())
+                        .description(localization.getDescription()))
+                .collect(Collectors.toList());
+    }
+
+    static String toLowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+}
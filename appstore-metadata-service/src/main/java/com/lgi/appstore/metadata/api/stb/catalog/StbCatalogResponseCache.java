@@ -0,0 +1,129 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.StbApplicationsList;
+import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "stbCatalog.responseCache.enabled", havingValue = "true")
+public class StbCatalogResponseCache {
+
+    static final String CACHE_NAME = "stbCatalogResponses";
+
+    private final JsonProcessorHelper jsonProcessorHelper;
+    private final Set<Integer> pageSizes;
+    private final Cache<Key, StbCatalogResponse> cache;
+
+    @Autowired
+    public StbCatalogResponseCache(JsonProcessorHelper jsonProcessorHelper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${stbCatalog.responseCache.maximumSize}") DataSize maximumSize,
+                                   @Value("${stbCatalog.responseCache.pageSizes}") Set<Integer> pageSizes) {
+        this.jsonProcessorHelper = jsonProcessorHelper;
+        this.pageSizes = Set.copyOf(pageSizes);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((Key key, StbCatalogResponse response) -> response.size())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isCacheable(String name,
+                               String description,
+                               String version,
+                               String type,
+                               String maintainerName,
+                               Integer offset,
+                               Integer limit,
+                               ApplicationCursor cursor) {
+        return name == null && description == null && version == null && type == null && maintainerName == null && cursor == null
+                && (offset == null || offset == 0)
+                && (limit == null || pageSizes.contains(limit));
+    }
+
+    public StbCatalogResponse get(long generation,
+                                  Platform platform,
+                                  Category category,
+                                  Integer offset,
+                                  Integer limit,
+                                  IncludeTotal includeTotal,
+                                  Supplier<StbApplicationsList> loader) {
+        return cache.get(new Key(generation, platform, category, offset, limit, includeTotal),
+                key -> StbCatalogResponse.of(jsonProcessorHelper.writeValueAsBytes(CACHE_NAME, loader.get())));
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private static final class Key {
+
+        private final long generation;
+        private final Platform platform;
+        private final Category category;
+        private final Integer offset;
+        private final Integer limit;
+        private final IncludeTotal includeTotal;
+
+        private Key(long generation, Platform platform, Category category, Integer offset, Integer limit, IncludeTotal includeTotal) {
+            this.generation = generation;
+            this.platform = platform;
+            this.category = category;
+            this.offset = offset;
+            this.limit = limit;
+            this.includeTotal = includeTotal;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return generation == key.generation && Objects.equals(platform, key.platform) && category == key.category
+                    && Objects.equals(offset, key.offset) && Objects.equals(limit, key.limit) && includeTotal == key.includeTotal;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(generation, platform, category, offset, limit, includeTotal);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.lgi.appstore.metadata.model.ApplicationCursor;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Meta;
+import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.model.StbApplicationsList;
+import com.lgi.appstore.metadata.util.ApplicationPreferredHelper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class StbCatalogSnapshot {
+
+    private static final Comparator<StbCatalogEntry> ENTRY_ORDER = Comparator.comparing(StbCatalogEntry::getId)
+            .thenComparing(StbCatalogEntry::getVersion);
+
+    private final List<StbCatalogEntry> entries;
+    private final Instant createdAt;
+    private final long generation;
+
+    public StbCatalogSnapshot(Collection<StbCatalogEntry> entries, Instant createdAt, long generation) {
+        final List<StbCatalogEntry> sortedEntries = new ArrayList<>(entries);
+        sortedEntries.sort(ENTRY_ORDER);
+        this.entries = List.copyOf(sortedEntries);
+        this.createdAt = createdAt;
+        this.generation = generation;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public StbApplicationsList listApplications(String name,
+                                                String description,
+                                                String version,
+                                                String type,
+                                                Platform platform,
+                                                Category category,
+                                                String maintainerName,
+                                                Integer offset,
+                                                Integer limit,
+                                                ApplicationCursor cursor,
+                                                IncludeTotal includeTotal) {
+        final List<StbCatalogEntry> matchingEntries = entries.stream()
+                .filter(createFilter(name, description, version, type, platform, category, maintainerName))
+                .collect(Collectors.toList());
+
+        final List<StbCatalogEntry> resolvedEntries = ApplicationPreferredHelper.matchByPreferredVersion(matchingEntries,
+                StbCatalogEntry::getId,
+                StbCatalogEntry::isPreferred);
+
+        final int effectiveOffset = cursor == null && offset != null ? offset : 0;
+        final int effectiveLimit = limit != null ? limit : 0;
+
+        final List<StbCatalogEntry> pageEntries = resolvedEntries.stream()
+                .filter(entry -> cursor == null || entry.getId().compareTo(cursor.getAppId()) > 0)
+                .skip(effectiveOffset)
+                .limit(effectiveLimit != 0 ? effectiveLimit + 1L : Long.MAX_VALUE)
+                .collect(Collectors.toList());
+        final boolean hasNextPage = effectiveLimit != 0 && pageEntries.size() > effectiveLimit;
+        final List<StbApplicationHeader> applicationHeaderList = (hasNextPage ? pageEntries.subList(0, effectiveLimit) : pageEntries).stream()
+                .map(StbCatalogEntry::toApplicationHeader)
+                .collect(Collectors.toList());
+
+        final Meta meta = new Meta()
+                .resultSet(
+                        new ResultSetMeta()
+                                .offset(effectiveOffset)
+                                .limit(effectiveLimit)
+                                .count(applicationHeaderList.size())
+                                .total(includeTotal != IncludeTotal.FALSE ? resolvedEntries.size() : null)
+                                .nextCursor(hasNextPage ? nextCursor(applicationHeaderList.get(effectiveLimit - 1)) : null)
+                );
+
+        return new StbApplicationsList()
+                .applications(applicationHeaderList)
+                .meta(meta);
+    }
+
+    private static Predicate<StbCatalogEntry> createFilter(String name,
+                                                           String description,
+                                                           String version,
+                                                           String type,
+                                                           Platform platform,
+                                                           Category category,
+                                                           String maintainerName) {
+        Predicate<StbCatalogEntry> filter = entry -> true;
+        if (name != null) {
+            final String lowerCaseName = StbCatalogEntry.toLowerCase(name);
+            filter = filter.and(entry -> entry.nameContains(lowerCaseName));
+        }
+        if (description != null) {
+            final String lowerCaseDescription = StbCatalogEntry.toLowerCase(description);
+            filter = filter.and(entry -> entry.descriptionContains(lowerCaseDescription));
+        }
+        if (version != null) {
+            filter = filter.and(entry -> version.equals(entry.getVersion()));
+        } else {
+            filter = filter.and(entry -> entry.isLatest() || entry.isPreferred());
+        }
+        if (type != null) {
+            filter = filter.and(entry -> entry.getType() != null && entry.getType().contains(type));
+        }
+        if (platform != null) {
+            if (platform.getArchitecture() != null) {
+                filter = filter.and(entry -> entry.getPlatform() != null && platform.getArchitecture().equals(entry.getPlatform().getArchitecture()));
+            }
+            if (platform.getVariant() != null) {
+                filter = filter.and(entry -> entry.getPlatform() != null && platform.getVariant().equals(entry.getPlatform().getVariant()));
+            }
+            if (platform.getOs() != null) {
+                filter = filter.and(entry -> entry.getPlatform() != null && platform.getOs().equals(entry.getPlatform().getOs()));
+            }
+        }
+        if (category != null) {
+            final String categoryValue = category.toString();
+            filter = filter.and(entry -> entry.getCategory() != null && entry.getCategory().contains(categoryValue));
+        }
+        if (maintainerName != null) {
+            filter = filter.and(entry -> Objects.equals(maintainerName, entry.getMaintainerName()));
+        }
+        return filter;
+    }
+
+    private static String nextCursor(StbApplicationHeader lastApplicationHeader) {
+        return ApplicationCursor.of(lastApplicationHeader.getId(), lastApplicationHeader.getVersion()).toString();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@ConditionalOnProperty(name = "stbCatalog.snapshot.enabled", havingValue = "true")
+public class StbCatalogSnapshotHolder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StbCatalogSnapshotHolder.class);
+
+    private final StbCatalogSnapshotLoader snapshotLoader;
+    private final Duration refreshInterval;
+    private final AtomicReference<StbCatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "stb-catalog-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public StbCatalogSnapshotHolder(StbCatalogSnapshotLoader snapshotLoader,
+                                    @Value("${stbCatalog.snapshot.refreshInterval}") Duration refreshInterval) {
+        this.snapshotLoader = snapshotLoader;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @PostConstruct
+    public void scheduleRefresh() {
+        final long refreshIntervalMillis = refreshInterval.toMillis();
+        refreshExecutor.scheduleWithFixedDelay(this::refreshQuietly, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public StbCatalogSnapshot getSnapshot() {
+        final StbCatalogSnapshot currentSnapshot = snapshot.get();
+        return currentSnapshot != null ? currentSnapshot : loadInitialSnapshot();
+    }
+
+    public Optional<StbCatalogSnapshot> getSnapshot(long minimumGeneration) {
+        final StbCatalogSnapshot currentSnapshot = getSnapshot();
+        if (currentSnapshot.getGeneration() >= minimumGeneration) {
+            return Optional.of(currentSnapshot);
+        }
+        LOG.debug("STB catalog snapshot of generation {} is older than {}, scheduling refresh", currentSnapshot.getGeneration(), minimumGeneration);
+        requestRefresh();
+        return Optional.empty();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        LOG.debug("Catalog changed: {}, scheduling STB catalog snapshot refresh", event);
+        requestRefresh();
+    }
+
+    public void requestRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                refreshPending.set(false);
+                refreshQuietly();
+            });
+        }
+    }
+
+    private synchronized StbCatalogSnapshot loadInitialSnapshot() {
+        final StbCatalogSnapshot currentSnapshot = snapshot.get();
+        return currentSnapshot != null ? currentSnapshot : refresh();
+    }
+
+    private synchronized StbCatalogSnapshot refresh() {
+        final long start = System.nanoTime();
+        final StbCatalogSnapshot newSnapshot = snapshotLoader.load();
+        snapshot.set(newSnapshot);
+        LOG.info("STB catalog snapshot with {} entries loaded in {} ms", newSnapshot.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return newSnapshot;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to refresh STB catalog snapshot, keeping the previous one", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.util.CatalogGenerationHelper;
+import com.lgi.appstore.metadata.util.CursorFetchHelper;
+import com.lgi.appstore.metadata.util.QueryNameHelper;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.lgi.appstore.metadata.jooq.model.tables.Application.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.tables.ApplicationLatest.APPLICATION_LATEST;
+import static com.lgi.appstore.metadata.jooq.model.tables.Maintainer.MAINTAINER;
+
+@Component
+public class StbCatalogSnapshotLoader {
+
+    private static final Field<Boolean> LATEST_STB = DSL.field(APPLICATION.ID.eq(APPLICATION_LATEST.STB_LATEST_ID))
+            .as("latest_stb");
+    private static final Field<Boolean> PREFERRED = DSL.field(APPLICATION.ID.eq(APPLICATION_LATEST.PREFERRED_ID))
+            .as("preferred");
+
+    private final DSLContext dslContext;
+
+    @Autowired
+    public StbCatalogSnapshotLoader(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    public StbCatalogSnapshot load() {
+        final Instant createdAt = Instant.now();
+        final long generation = CatalogGenerationHelper.fetch(dslContext).getGeneration();
+
+        final List<StbCatalogEntry> entries = CursorFetchHelper.fetchMapped(QueryNameHelper.named(dslContext, "stb.snapshot"), dslContext.select(
+                        APPLICATION.ID_RDOMAIN,
+                        APPLICATION.VERSION,
+                        APPLICATION.ICON,
+                        APPLICATION.NAME,
+                        APPLICATION.DESCRIPTION,
+                        APPLICATION.TYPE,
+                        APPLICATION.SIZE,
+                        APPLICATION.CATEGORY,
+                        APPLICATION.LOCALIZATIONS,
+                        APPLICATION.PLATFORM,
+                        PREFERRED,
+                        LATEST_STB,
+                        MAINTAINER.NAME)
+                .from(APPLICATION)
+                .innerJoin(APPLICATION_LATEST)
+                .on(APPLICATION_LATEST.ID_RDOMAIN.eq(APPLICATION.ID_RDOMAIN).and(APPLICATION_LATEST.MAINTAINER_ID.eq(APPLICATION.MAINTAINER_ID)))
+                .leftJoin(MAINTAINER)
+                .on(APPLICATION.MAINTAINER_ID.eq(MAINTAINER.ID))
+                .where(APPLICATION.VISIBLE.eq(true)), this::toEntry);
+
+        return new StbCatalogSnapshot(entries, createdAt, generation);
+    }
+
+    private StbCatalogEntry toEntry(Record applicationMetadataRecord) {
+        final StbApplicationHeader applicationHeader = new StbApplicationHeader()
+                .id(applicationMetadataRecord.get(APPLICATION.ID_RDOMAIN))
+                .version(applicationMetadataRecord.get(APPLICATION.VERSION))
+                .icon(applicationMetadataRecord.get(APPLICATION.ICON))
+                .name(applicationMetadataRecord.get(APPLICATION.NAME))
+                .description(applicationMetadataRecord.get(APPLICATION.DESCRIPTION))
+                .type(applicationMetadataRecord.get(APPLICATION.TYPE))
+                .size(applicationMetadataRecord.get(APPLICATION.SIZE))
+                .category(Category.fromValue(applicationMetadataRecord.get(APPLICATION.CATEGORY)))
+                .localization(applicationMetadataRecord.get(APPLICATION.LOCALIZATIONS));
+
+        return new StbCatalogEntry(applicationHeader,
+                applicationMetadataRecord.get(APPLICATION.CATEGORY),
+                applicationMetadataRecord.get(APPLICATION.PLATFORM),
+                applicationMetadataRecord.get(MAINTAINER.NAME),
+                Boolean.TRUE.equals(applicationMetadataRecord.get(LATEST_STB)),
+                Boolean.TRUE.equals(applicationMetadataRecord.get(PREFERRED)));
+    }
+}
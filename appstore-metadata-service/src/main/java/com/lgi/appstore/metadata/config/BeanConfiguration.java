@@ -25,6 +25,7 @@ import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
 import com.lgi.appstore.metadata.util.ApplicationUrlService;
 import com.lgi.appstore.metadata.util.ObjectMapperFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jooq.DefaultConfigurationCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -42,6 +43,12 @@ public class BeanConfiguration {
     @Value("${webApplications.list}")
     private Collection<ApplicationType> webApplicationTypes;
 
+    @Value("${jackson.blackbird.enabled}")
+    private boolean blackbirdEnabled;
+
+    @Value("${database.fetchSize}")
+    private int fetchSize;
+
     @Bean
     public ApplicationUrlCreator applicationUrlBuilder() {
         return new ApplicationUrlCreator(bundlesStorageProtocol, bundlesStorageHost);
@@ -49,7 +56,12 @@ public class BeanConfiguration {
 
     @Bean
     public ObjectMapper objectMapper() {
-        return ObjectMapperFactory.create();
+        return ObjectMapperFactory.create(blackbirdEnabled);
+    }
+
+    @Bean
+    public DefaultConfigurationCustomizer fetchSizeCustomizer() {
+        return configuration -> configuration.settings().withFetchSize(fetchSize);
     }
 
     @Bean
@@ -18,8 +18,11 @@
  */
 package com.lgi.appstore.metadata.config;
 
+import com.lgi.appstore.metadata.api.converter.StringToApplicationCursorConverter;
 import com.lgi.appstore.metadata.api.converter.StringToApplicationTypeConverter;
 import com.lgi.appstore.metadata.api.converter.StringToCategoryConverter;
+import com.lgi.appstore.metadata.api.converter.StringToChangesTokenConverter;
+import com.lgi.appstore.metadata.api.converter.StringToIncludeTotalConverter;
 import com.lgi.appstore.metadata.api.converter.StringToPlatformConverter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
@@ -33,5 +36,8 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addConverter(new StringToCategoryConverter());
         registry.addConverter(new StringToPlatformConverter());
         registry.addConverter(new StringToApplicationTypeConverter());
+        registry.addConverter(new StringToApplicationCursorConverter());
+        registry.addConverter(new StringToIncludeTotalConverter());
+        registry.addConverter(new StringToChangesTokenConverter());
     }
 }
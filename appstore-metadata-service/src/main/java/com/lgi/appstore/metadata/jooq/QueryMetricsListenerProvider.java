@@ -0,0 +1,104 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.jooq;
+
+import com.lgi.appstore.metadata.util.QueryNameHelper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecuteType;
+import org.jooq.impl.DefaultExecuteListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class QueryMetricsListenerProvider implements ExecuteListenerProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryMetricsListenerProvider.class);
+
+    static final String QUERY_TIMER = "jooq.query";
+    static final String QUERY_ROWS = "jooq.query.rows";
+    static final String QUERY_TAG = "query";
+    static final String OUTCOME_TAG = "outcome";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+
+    @Autowired
+    public QueryMetricsListenerProvider(MeterRegistry meterRegistry,
+                                        @Value("${database.slowQueryThreshold}") Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public ExecuteListener provide() {
+        return new QueryMetricsListener();
+    }
+
+    private class QueryMetricsListener extends DefaultExecuteListener {
+
+        private long startNanos;
+        private int fetchedRows;
+
+        @Override
+        public void start(ExecuteContext ctx) {
+            startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void recordEnd(ExecuteContext ctx) {
+            fetchedRows++;
+        }
+
+        @Override
+        public void end(ExecuteContext ctx) {
+            final long elapsedNanos = System.nanoTime() - startNanos;
+            final String queryName = QueryNameHelper.queryName(ctx.configuration());
+
+            Timer.builder(QUERY_TIMER)
+                    .description("Execution time of SQL queries, including fetching their results")
+                    .tag(QUERY_TAG, queryName)
+                    .tag(OUTCOME_TAG, ctx.exception() == null ? "success" : "error")
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (ctx.type() == ExecuteType.READ || fetchedRows > 0) {
+                DistributionSummary.builder(QUERY_ROWS)
+                        .description("Number of rows fetched by SQL queries")
+                        .tag(QUERY_TAG, queryName)
+                        .register(meterRegistry)
+                        .record(fetchedRows);
+            }
+
+            if (elapsedNanos >= slowQueryThresholdNanos) {
+                LOG.warn("Slow query {} took {} ms and fetched {} rows: {}",
+                        queryName, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), fetchedRows, ctx.sql());
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.jooq.converter;
+
+import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import com.lgi.appstore.metadata.util.ObjectMapperFactory;
+import org.jooq.JSONB;
+import org.jooq.impl.AbstractConverter;
+
+public abstract class JsonbConverter<T> extends AbstractConverter<JSONB, T> {
+
+    private static final JsonProcessorHelper JSON_PROCESSOR_HELPER = new JsonProcessorHelper(ObjectMapperFactory.create());
+
+    private final String target;
+
+    @SuppressWarnings("unchecked")
+    protected JsonbConverter(String target, Class<?> type) {
+        super(JSONB.class, (Class<T>) type);
+        this.target = target;
+    }
+
+    @Override
+    public T from(JSONB databaseObject) {
+        return databaseObject != null ? JSON_PROCESSOR_HELPER.readValue(target, databaseObject.data()) : null;
+    }
+
+    @Override
+    public JSONB to(T userObject) {
+        return userObject != null ? JSONB.valueOf(JSON_PROCESSOR_HELPER.writeValueAsString(target, userObject)) : null;
+    }
+}
@@ -23,7 +23,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 public class AppIdWithVersion {
 
     private static final String APP_ID_VERSION_SEPARATOR = ":";
-    static final String VERSION_LATEST = "latest";
+    public static final String VERSION_LATEST = "latest";
     static final String VERSION_ALL = "all";
 
     private final String appId;
@@ -0,0 +1,85 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public class ApplicationCursor {
+
+    private static final String APP_ID_VERSION_SEPARATOR = "\n";
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor: %s";
+
+    private final String appId;
+    private final String version;
+
+    private ApplicationCursor(String appId, String version) {
+        this.appId = appId;
+        this.version = version;
+    }
+
+    public static ApplicationCursor of(String appId, String version) {
+        return new ApplicationCursor(Objects.requireNonNull(appId), Objects.requireNonNull(version));
+    }
+
+    public static ApplicationCursor fromString(String cursor) {
+        final String decodedCursor;
+        try {
+            decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(INVALID_CURSOR_MESSAGE, cursor), e);
+        }
+
+        final String[] tokens = decodedCursor.split(APP_ID_VERSION_SEPARATOR, -1);
+        if (tokens.length != 2 || tokens[0].isBlank() || tokens[1].isBlank()) {
+            throw new IllegalArgumentException(String.format(INVALID_CURSOR_MESSAGE, cursor));
+        }
+
+        return new ApplicationCursor(tokens[0], tokens[1]);
+    }
+
+    public String getAppId() {
+        return appId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ApplicationCursor that = (ApplicationCursor) o;
+        return Objects.equals(appId, that.appId) && Objects.equals(version, that.version);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(appId, version);
+    }
+
+    @Override
+    public String toString() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((appId + APP_ID_VERSION_SEPARATOR + version).getBytes(StandardCharsets.UTF_8));
+    }
+}
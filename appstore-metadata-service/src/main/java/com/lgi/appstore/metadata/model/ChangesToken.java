@@ -0,0 +1,73 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public class ChangesToken {
+
+    private static final String INVALID_TOKEN_MESSAGE = "Invalid changes token: %s";
+
+    private final long generation;
+
+    private ChangesToken(long generation) {
+        this.generation = generation;
+    }
+
+    public static ChangesToken of(long generation) {
+        if (generation < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_TOKEN_MESSAGE, generation));
+        }
+        return new ChangesToken(generation);
+    }
+
+    public static ChangesToken fromString(String token) {
+        try {
+            return of(Long.parseLong(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(INVALID_TOKEN_MESSAGE, token), e);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChangesToken that = (ChangesToken) o;
+        return generation == that.generation;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(generation);
+    }
+
+    @Override
+    public String toString() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Long.toString(generation).getBytes(StandardCharsets.UTF_8));
+    }
+}
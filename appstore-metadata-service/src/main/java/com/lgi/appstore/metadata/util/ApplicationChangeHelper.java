@@ -0,0 +1,79 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import com.lgi.appstore.metadata.jooq.model.tables.ApplicationChange;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+import java.time.OffsetDateTime;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_CHANGE;
+import static com.lgi.appstore.metadata.jooq.model.Tables.CATALOG_GENERATION;
+
+public final class ApplicationChangeHelper {
+
+    private ApplicationChangeHelper() {
+    }
+
+    public static void record(DSLContext localDslContext, String appId) {
+        localDslContext.insertInto(APPLICATION_CHANGE, APPLICATION_CHANGE.GENERATION, APPLICATION_CHANGE.ID_RDOMAIN, APPLICATION_CHANGE.VISIBLE)
+                .select(localDslContext.select(
+                                CATALOG_GENERATION.GENERATION,
+                                DSL.val(appId),
+                                DSL.field(DSL.exists(localDslContext.selectOne()
+                                        .from(APPLICATION)
+                                        .where(APPLICATION.ID_RDOMAIN.eq(appId))
+                                        .and(APPLICATION.VISIBLE.isTrue()))))
+                        .from(CATALOG_GENERATION))
+                .execute();
+    }
+
+    public static long fetchOldestGeneration(DSLContext localDslContext) {
+        return localDslContext.select(CATALOG_GENERATION.OLDEST_CHANGE_GENERATION)
+                .from(CATALOG_GENERATION)
+                .fetchOne(CATALOG_GENERATION.OLDEST_CHANGE_GENERATION);
+    }
+
+    // keeps the last change of every application up to the new oldest generation, changes listed from there on need it
+    public static int prune(DSLContext localDslContext, OffsetDateTime changedBefore) {
+        final Long oldestGeneration = localDslContext.select(DSL.max(APPLICATION_CHANGE.GENERATION))
+                .from(APPLICATION_CHANGE)
+                .where(APPLICATION_CHANGE.CHANGED_AT.lt(changedBefore))
+                .fetchOne(DSL.max(APPLICATION_CHANGE.GENERATION));
+        if (oldestGeneration == null) {
+            return 0;
+        }
+
+        localDslContext.update(CATALOG_GENERATION)
+                .set(CATALOG_GENERATION.OLDEST_CHANGE_GENERATION, DSL.greatest(CATALOG_GENERATION.OLDEST_CHANGE_GENERATION, DSL.val(oldestGeneration)))
+                .execute();
+
+        final ApplicationChange laterChange = APPLICATION_CHANGE.as("later_change");
+        return QueryNameHelper.named(localDslContext, "catalog.changesPrune").deleteFrom(APPLICATION_CHANGE)
+                .where(APPLICATION_CHANGE.GENERATION.le(oldestGeneration))
+                .andExists(DSL.selectOne()
+                        .from(laterChange)
+                        .where(laterChange.ID_RDOMAIN.eq(APPLICATION_CHANGE.ID_RDOMAIN))
+                        .and(laterChange.GENERATION.le(oldestGeneration))
+                        .and(DSL.row(laterChange.GENERATION, laterChange.ID).gt(APPLICATION_CHANGE.GENERATION, APPLICATION_CHANGE.ID)))
+                .execute();
+    }
+}
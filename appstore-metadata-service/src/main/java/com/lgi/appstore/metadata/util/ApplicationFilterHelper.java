@@ -0,0 +1,50 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import com.lgi.appstore.metadata.model.Platform;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+
+public final class ApplicationFilterHelper {
+
+    private ApplicationFilterHelper() {
+    }
+
+    public static Condition platformCondition(Platform platform) {
+        Condition condition = DSL.noCondition();
+        if (platform.getArchitecture() != null) {
+            condition = condition.and(platformAttribute("architecture").eq(platform.getArchitecture()));
+        }
+        if (platform.getVariant() != null) {
+            condition = condition.and(platformAttribute("variant").eq(platform.getVariant()));
+        }
+        if (platform.getOs() != null) {
+            condition = condition.and(platformAttribute("os").eq(platform.getOs()));
+        }
+        return condition;
+    }
+
+    private static Field<String> platformAttribute(String attribute) {
+        return DSL.field("{0} ->> {1}", String.class, APPLICATION.PLATFORM, DSL.inline(attribute));
+    }
+}
@@ -18,16 +18,23 @@
  */
 package com.lgi.appstore.metadata.util;
 
-import org.jooq.JSONB;
-import org.jooq.Record10;
-import org.jooq.Record13;
-import org.jooq.Record20;
+import com.lgi.appstore.metadata.model.Dependency;
+import com.lgi.appstore.metadata.model.Feature;
+import com.lgi.appstore.metadata.model.Hardware;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.Platform;
+import org.jooq.Record;
 import org.jooq.Record22;
 import org.jooq.Result;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static com.lgi.appstore.metadata.jooq.model.tables.Application.APPLICATION;
 
@@ -36,38 +43,36 @@ public class ApplicationPreferredHelper {
     private ApplicationPreferredHelper() {
     }
 
-    public static List<Record10<String, String, String, String, String, String, Integer, String, JSONB, Boolean>>
-    matchByPreferredVersionForListStb(Result<Record10<String, String, String, String, String, String, Integer, String, JSONB, Boolean>> result) {
-        return result.stream()
-                .filter(record1 -> result.stream()
-                        .filter(record2 -> record1 != record2)
-                        .noneMatch(record2 -> record1.get(APPLICATION.ID_RDOMAIN).equals(record2.get(APPLICATION.ID_RDOMAIN))
-                                && record2.get(APPLICATION.PREFERRED).equals(true))
-                ).collect(Collectors.toList());
+    public static <R extends Record> List<R> matchByPreferredVersion(Collection<R> result) {
+        return matchByPreferredVersion(result,
+                record -> record.get(APPLICATION.ID_RDOMAIN),
+                record -> Boolean.TRUE.equals(record.get(APPLICATION.PREFERRED)));
     }
 
-    public static List<Record13<String, String, String, String, String, Boolean, Boolean, Boolean, String, String, Integer, String, JSONB>>
-    matchByPreferredVersionForListMaintainer(Result<Record13<String, String, String, String, String, Boolean, Boolean, Boolean, String, String, Integer, String, JSONB>> result) {
-        return result.stream()
-                .filter(record1 -> result.stream()
-                        .filter(record2 -> record1 != record2)
-                        .noneMatch(record2 -> record1.get(APPLICATION.ID_RDOMAIN).equals(record2.get(APPLICATION.ID_RDOMAIN))
-                                && record2.get(APPLICATION.PREFERRED).equals(true))
-                ).collect(Collectors.toList());
-    }
+    public static <T> List<T> matchByPreferredVersion(Collection<T> result, Function<T, String> idExtractor, Predicate<T> preferredPredicate) {
+        final Map<String, Integer> preferredCountById = new HashMap<>();
+        for (T element : result) {
+            if (preferredPredicate.test(element)) {
+                preferredCountById.merge(idExtractor.apply(element), 1, Integer::sum);
+            }
+        }
+        if (preferredCountById.isEmpty()) {
+            return new ArrayList<>(result);
+        }
 
-    public static Optional<Record20<String, String, String, String, String, String, String, String, String, String, String, String, JSONB, JSONB, JSONB, JSONB, JSONB, Integer, String, Boolean>>
-    matchByPreferredVersionForDetailsStb(Result<Record20<String, String, String, String, String, String, String, String, String, String, String, String, JSONB, JSONB, JSONB, JSONB, JSONB, Integer, String, Boolean>> result) {
-        if (result.size() > 1) {
-            return result.stream()
-                    .filter(record -> record.get(APPLICATION.PREFERRED).equals(true))
-                    .findAny();
+        final List<T> matched = new ArrayList<>(result.size());
+        for (T element : result) {
+            final int preferredCount = preferredCountById.getOrDefault(idExtractor.apply(element), 0);
+            final int otherPreferredCount = preferredPredicate.test(element) ? preferredCount - 1 : preferredCount;
+            if (otherPreferredCount == 0) {
+                matched.add(element);
+            }
         }
-        return result.stream().findAny();
+        return matched;
     }
 
-    public static Optional<Record22<String, String, String, String, String, String, String, Boolean, Boolean, Boolean, String, String, String, String, String, Integer, String, JSONB, JSONB, JSONB, JSONB, JSONB>>
-    matchByPreferredVersionForDetailsMaintainer(Result<Record22<String, String, String, String, String, String, String, Boolean, Boolean, Boolean, String, String, String, String, String, Integer, String, JSONB, JSONB, JSONB, JSONB, JSONB>> result) {
+    public static Optional<Record22<String, String, String, String, String, String, String, Boolean, Boolean, Boolean, String, String, String, String, String, Integer, String, List<Localization>, Platform, Hardware, List<Feature>, List<Dependency>>>
+    matchByPreferredVersionForDetailsMaintainer(Result<Record22<String, String, String, String, String, String, String, Boolean, Boolean, Boolean, String, String, String, String, String, Integer, String, List<Localization>, Platform, Hardware, List<Feature>, List<Dependency>>> result) {
         if (result.size() > 1) {
             return result.stream()
                     .filter(record -> record.get(APPLICATION.PREFERRED).equals(true))
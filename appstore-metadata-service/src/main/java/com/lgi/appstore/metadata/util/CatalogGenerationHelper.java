@@ -0,0 +1,44 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import com.lgi.appstore.metadata.api.catalog.CatalogGeneration;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.CATALOG_GENERATION;
+
+public final class CatalogGenerationHelper {
+
+    private CatalogGenerationHelper() {
+    }
+
+    public static CatalogGeneration fetch(DSLContext dslContext) {
+        return QueryNameHelper.named(dslContext, "catalog.generation").select(CATALOG_GENERATION.GENERATION, CATALOG_GENERATION.MODIFIED_AT)
+                .from(CATALOG_GENERATION)
+                .fetchOne(record -> new CatalogGeneration(record.value1(), record.value2().toInstant()));
+    }
+
+    public static void increment(DSLContext localDslContext) {
+        localDslContext.update(CATALOG_GENERATION)
+                .set(CATALOG_GENERATION.GENERATION, CATALOG_GENERATION.GENERATION.plus(1))
+                .set(CATALOG_GENERATION.MODIFIED_AT, DSL.currentOffsetDateTime())
+                .execute();
+    }
+}
@@ -20,24 +20,72 @@ package com.lgi.appstore.metadata.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.lgi.appstore.metadata.api.error.JsonException;
+import com.lgi.appstore.metadata.model.Dependency;
+import com.lgi.appstore.metadata.model.Feature;
+import com.lgi.appstore.metadata.model.Hardware;
+import com.lgi.appstore.metadata.model.JsonObjectNames;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.Platform;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
 @Component
 public class JsonProcessorHelper {
 
+    private static final Map<String, TypeReference<?>> TARGET_TYPES = Map.of(
+            JsonObjectNames.PLATFORM, new TypeReference<Platform>() {
+            },
+            JsonObjectNames.HARDWARE, new TypeReference<Hardware>() {
+            },
+            JsonObjectNames.FEATURES, new TypeReference<List<Feature>>() {
+            },
+            JsonObjectNames.DEPENDENCIES, new TypeReference<List<Dependency>>() {
+            },
+            JsonObjectNames.LOCALIZATIONS, new TypeReference<List<Localization>>() {
+            });
+
     private final ObjectMapper objectMapper;
+    private final Map<String, ObjectReader> targetReaders;
+    private final Map<String, ObjectWriter> targetWriters;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
 
     @Autowired
     public JsonProcessorHelper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        final Map<String, JavaType> targetTypes = TARGET_TYPES.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> objectMapper.getTypeFactory().constructType(entry.getValue())));
+        this.targetReaders = targetTypes.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> objectMapper.readerFor(entry.getValue())));
+        this.targetWriters = targetTypes.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> objectMapper.writerFor(entry.getValue())));
+    }
+
+    public <T> T readValue(String target, String jsonString) {
+        final ObjectReader reader = targetReaders.get(target);
+        if (reader == null) {
+            throw new IllegalArgumentException("No reader registered for: " + target);
+        }
+        try {
+            return reader.readValue(jsonString);
+        } catch (JsonProcessingException e) {
+            throw new JsonException(target, jsonString, e);
+        }
     }
 
     public <T> T readValue(String target, String jsonString, Class<T> type) {
         try {
-            return objectMapper.readValue(jsonString, type);
+            return readers.computeIfAbsent(type, objectMapper::readerFor).readValue(jsonString);
         } catch (JsonProcessingException e) {
             throw new JsonException(target, jsonString, e);
         }
@@ -53,9 +101,28 @@ public class JsonProcessorHelper {
 
     public String writeValueAsString(String target, Object value) {
         try {
-            return objectMapper.writeValueAsString(value);
+            return writerFor(target, value).writeValueAsString(value);
         } catch (JsonProcessingException e) {
             throw new JsonException(target, null, e);
         }
     }
+
+    public byte[] writeValueAsBytes(String target, Object value) {
+        try {
+            return writerFor(target, value).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new JsonException(target, null, e);
+        }
+    }
+
+    private ObjectWriter writerFor(String target, Object value) {
+        final ObjectWriter targetWriter = targetWriters.get(target);
+        if (targetWriter != null) {
+            return targetWriter;
+        }
+        if (value == null) {
+            return objectMapper.writer();
+        }
+        return writers.computeIfAbsent(value.getClass(), objectMapper::writerFor);
+    }
 }
@@ -20,14 +20,22 @@ package com.lgi.appstore.metadata.util;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 
 public final class ObjectMapperFactory {
 
     private ObjectMapperFactory() {}
 
     public static ObjectMapper create() {
+        return create(false);
+    }
+
+    public static ObjectMapper create(boolean bytecodeAccessors) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (bytecodeAccessors) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
         return objectMapper;
     }
 }
\ No newline at end of file
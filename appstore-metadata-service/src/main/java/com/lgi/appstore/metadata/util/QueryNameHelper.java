@@ -0,0 +1,43 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+public final class QueryNameHelper {
+
+    static final String QUERY_NAME_KEY = QueryNameHelper.class.getName() + ".queryName";
+    public static final String UNNAMED_QUERY = "other";
+
+    private QueryNameHelper() {
+    }
+
+    public static DSLContext named(DSLContext dslContext, String queryName) {
+        final Configuration configuration = dslContext.configuration().derive();
+        configuration.data(QUERY_NAME_KEY, queryName);
+        return DSL.using(configuration);
+    }
+
+    public static String queryName(Configuration configuration) {
+        final Object queryName = configuration.data(QUERY_NAME_KEY);
+        return queryName != null ? queryName.toString() : UNNAMED_QUERY;
+    }
+}
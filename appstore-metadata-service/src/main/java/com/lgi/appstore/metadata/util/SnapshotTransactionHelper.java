@@ -0,0 +1,40 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import org.jooq.DSLContext;
+import org.jooq.TransactionalCallable;
+import org.jooq.impl.DSL;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class SnapshotTransactionHelper {
+
+    private SnapshotTransactionHelper() {
+    }
+
+    public static <T> T snapshotTransactionResult(DSLContext dslContext, TransactionalCallable<T> transactional) {
+        final boolean outerTransactionActive = TransactionSynchronizationManager.isActualTransactionActive();
+        return dslContext.transactionResult(configuration -> {
+            if (!outerTransactionActive) {
+                DSL.using(configuration).execute("set transaction isolation level repeatable read, read only");
+            }
+            return transactional.run(configuration);
+        });
+    }
+}
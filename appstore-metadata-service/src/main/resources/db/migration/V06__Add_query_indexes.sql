@@ -0,0 +1,33 @@
+--
+-- If not stated otherwise in this file or this component's LICENSE file the
+-- following copyright and licenses apply:
+--
+-- Copyright 2026 Liberty Global Technology Services BV
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+-- http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+
+create index application_maintainer_id_idx on application (maintainer_id);
+
+create index application_stb_listing_idx on application (id_rdomain, preferred desc, id)
+    where visible and ((latest -> 'stb') = 'true' or preferred);
+
+create index application_maintainer_listing_idx on application (maintainer_id, id_rdomain, preferred desc, id)
+    where (latest -> 'maintainer') = 'true' or preferred;
+
+create index maintainer_code_idx on maintainer (code);
+
+create index maintainer_name_idx on maintainer ("name");
+
+create index maintainer_name_pattern_idx on maintainer (lower("name") text_pattern_ops);
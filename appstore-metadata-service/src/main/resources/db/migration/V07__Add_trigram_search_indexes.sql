@@ -0,0 +1,34 @@
+--
+-- If not stated otherwise in this file or this component's LICENSE file the
+-- following copyright and licenses apply:
+--
+-- Copyright 2026 Liberty Global Technology Services BV
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+-- http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+
+create extension if not exists pg_trgm;
+
+-- the extension may already be installed in a schema outside of the search path
+do $$
+declare
+    trgm_schema text := (select n.nspname
+                         from pg_extension e
+                         join pg_namespace n on n.oid = e.extnamespace
+                         where e.extname = 'pg_trgm');
+begin
+    execute format('create index application_name_trgm_idx on application using gin ("name" %I.gin_trgm_ops)', trgm_schema);
+    execute format('create index application_description_trgm_idx on application using gin (description %I.gin_trgm_ops)', trgm_schema);
+end
+$$;
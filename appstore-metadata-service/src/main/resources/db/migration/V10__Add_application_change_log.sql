@@ -0,0 +1,34 @@
+--
+-- If not stated otherwise in this file or this component's LICENSE file the
+-- following copyright and licenses apply:
+--
+-- Copyright 2026 Liberty Global Technology Services BV
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+-- http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+
+create table application_change (
+    id bigserial primary key,
+    generation bigint not null,
+    id_rdomain text not null,
+    visible boolean not null
+);
+
+create index application_change_generation_idx on application_change (generation);
+create index application_change_id_rdomain_generation_idx on application_change (id_rdomain, generation);
+
+insert into application_change (generation, id_rdomain, visible)
+select catalog_generation.generation, visible_application.id_rdomain, true
+from (select distinct id_rdomain from application where visible) visible_application
+cross join catalog_generation;
@@ -0,0 +1,52 @@
+--
+-- If not stated otherwise in this file or this component's LICENSE file the
+-- following copyright and licenses apply:
+--
+-- Copyright 2026 Liberty Global Technology Services BV
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+-- http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+
+create table application_latest (
+    id_rdomain text not null,
+    maintainer_id integer not null references maintainer (id),
+    stb_latest_id integer references application (id) on delete set null,
+    maintainer_latest_id integer not null references application (id) on delete cascade,
+    preferred_id integer references application (id) on delete set null,
+    primary key (id_rdomain, maintainer_id)
+);
+
+create index application_latest_maintainer_id_idx on application_latest (maintainer_id, id_rdomain);
+create index application_latest_stb_latest_id_idx on application_latest (stb_latest_id);
+create unique index application_latest_maintainer_latest_id_idx on application_latest (maintainer_latest_id);
+create index application_latest_preferred_id_idx on application_latest (preferred_id);
+
+insert into application_latest (id_rdomain, maintainer_id, stb_latest_id, maintainer_latest_id, preferred_id)
+select id_rdomain,
+       maintainer_id,
+       (array_agg(id order by string_to_array(substring(version from '^[0-9]+(?:\.[0-9]+)*'), '.')::numeric[] desc nulls last, id desc) filter (where visible))[1],
+       (array_agg(id order by string_to_array(substring(version from '^[0-9]+(?:\.[0-9]+)*'), '.')::numeric[] desc nulls last, id desc))[1],
+       min(id) filter (where preferred)
+from application
+where id_rdomain is not null and maintainer_id is not null
+group by id_rdomain, maintainer_id;
+
+drop index application_stb_listing_idx;
+drop index application_maintainer_listing_idx;
+drop index application_latest_stb_idx;
+drop index application_latest_maintainer_idx;
+
+alter table application drop column latest;
+
+create index application_listing_idx on application (id_rdomain, preferred desc, id) where visible;
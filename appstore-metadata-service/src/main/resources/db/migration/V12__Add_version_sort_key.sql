@@ -0,0 +1,40 @@
+--
+-- If not stated otherwise in this file or this component's LICENSE file the
+-- following copyright and licenses apply:
+--
+-- Copyright 2026 Liberty Global Technology Services BV
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+-- http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+
+-- sortable form of semver pre-release identifiers: numeric ones length-prefixed so that they compare numerically
+-- and below alphanumeric ones, separated by a space so that a shorter set of identifiers sorts first
+create function version_pre_release_key(pre_release text) returns text
+    language sql immutable strict
+as $$
+select string_agg(case
+                      when identifier ~ '^[0-9]+$'
+                          then '0' || lpad(length(ltrim(identifier, '0'))::text, 3, '0') || ltrim(identifier, '0')
+                      else '1' || identifier
+                      end, ' ' order by position)
+from regexp_split_to_table(pre_release, '\.') with ordinality as identifiers(identifier, position)
+$$;
+
+alter table application
+    add column version_core numeric[] generated always as (
+        string_to_array(substring(version from '^[0-9]+(?:\.[0-9]+)*'), '.')::numeric[]) stored,
+    add column version_pre text collate "C" generated always as (
+        version_pre_release_key(nullif(regexp_replace(substring(version from '^[0-9]+(?:\.[0-9]+)*(.*)$'), '^[-.]|\+.*$', '', 'g'), ''))) stored;
+
+create index application_version_sort_idx on application (id_rdomain, version_core desc nulls last, version_pre desc nulls first, id desc);
@@ -0,0 +1,36 @@
+--
+-- If not stated otherwise in this file or this component's LICENSE file the
+-- following copyright and licenses apply:
+--
+-- Copyright 2026 Liberty Global Technology Services BV
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+-- http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+
+-- V11 filled application_latest before the pre-release sort key existed; redo it with the ordering used at runtime
+insert into application_latest (id_rdomain, maintainer_id, stb_latest_id, maintainer_latest_id, preferred_id)
+select id_rdomain,
+       maintainer_id,
+       (array_agg(id order by version_core desc nulls last, version_pre desc nulls first, id desc) filter (where visible))[1],
+       (array_agg(id order by version_core desc nulls last, version_pre desc nulls first, id desc))[1],
+       min(id) filter (where preferred)
+from application
+where id_rdomain is not null and maintainer_id is not null
+group by id_rdomain, maintainer_id
+on conflict (id_rdomain, maintainer_id) do update
+    set stb_latest_id = excluded.stb_latest_id,
+        maintainer_latest_id = excluded.maintainer_latest_id,
+        preferred_id = excluded.preferred_id
+    where (application_latest.stb_latest_id, application_latest.maintainer_latest_id, application_latest.preferred_id)
+              is distinct from (excluded.stb_latest_id, excluded.maintainer_latest_id, excluded.preferred_id);
@@ -0,0 +1,142 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.event;
+
+import com.lgi.appstore.metadata.api.service.BaseServiceTest;
+import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import com.lgi.appstore.metadata.util.ObjectMapperFactory;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogChangeBusTest extends BaseServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private DSLContext dslContext;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    private final List<Object> firstNodeEvents = new CopyOnWriteArrayList<>();
+    private final List<Object> secondNodeEvents = new CopyOnWriteArrayList<>();
+    private CatalogChangeBus firstNode;
+    private CatalogChangeBus secondNode;
+
+    @BeforeEach
+    void setUp() {
+        firstNode = createNode(firstNodeEvents);
+        secondNode = createNode(secondNodeEvents);
+        firstNode.start();
+        secondNode.start();
+        await(() -> firstNode.isListening() && secondNode.isListening());
+    }
+
+    @AfterEach
+    void tearDown() {
+        firstNode.stop();
+        secondNode.stop();
+    }
+
+    @Test
+    void changesArePropagatedToOtherNodes() {
+        // WHEN
+        firstNode.onCatalogChanged(CatalogChangedEvent.forApplications(List.of("com.lgi.app1", "com.lgi.app2")));
+        secondNode.onCatalogChanged(CatalogChangedEvent.forWholeCatalog());
+
+        // THEN
+        await(() -> secondNodeEvents.size() == 1 && firstNodeEvents.size() == 1);
+        assertThat(secondNodeEvents).containsExactly(CatalogChangedEvent.forApplications(List.of("com.lgi.app1", "com.lgi.app2")).asRemote());
+        assertThat(firstNodeEvents).containsExactly(CatalogChangedEvent.forWholeCatalog().asRemote());
+    }
+
+    @Test
+    void remoteChangesAreNotPropagatedAgain() {
+        // WHEN
+        firstNode.onCatalogChanged(CatalogChangedEvent.forApplication("com.lgi.app1").asRemote());
+        firstNode.onCatalogChanged(CatalogChangedEvent.forApplication("com.lgi.app2"));
+
+        // THEN
+        await(() -> !secondNodeEvents.isEmpty());
+        assertThat(secondNodeEvents).containsExactly(CatalogChangedEvent.forApplication("com.lgi.app2").asRemote());
+        assertThat(firstNodeEvents).isEmpty();
+    }
+
+    @Test
+    void oversizedChangesInvalidateWholeCatalog() {
+        // GIVEN
+        final List<String> applicationIds = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            applicationIds.add("com.lgi.application" + i);
+        }
+
+        // WHEN
+        firstNode.onCatalogChanged(CatalogChangedEvent.forApplications(applicationIds));
+
+        // THEN
+        await(() -> !secondNodeEvents.isEmpty());
+        assertThat(secondNodeEvents).containsExactly(CatalogChangedEvent.forWholeCatalog().asRemote());
+    }
+
+    @Test
+    void wholeCatalogIsInvalidatedAfterReconnect() {
+        // WHEN
+        dslContext.fetch("select pg_terminate_backend(pid) from pg_stat_activity where application_name = {0}",
+                CatalogChangeBus.LISTENER_APPLICATION_NAME);
+
+        // THEN
+        await(() -> secondNodeEvents.contains(CatalogChangedEvent.forWholeCatalog().asRemote()) && secondNode.isListening());
+        secondNodeEvents.clear();
+        firstNode.onCatalogChanged(CatalogChangedEvent.forApplication("com.lgi.app1"));
+        await(() -> secondNodeEvents.contains(CatalogChangedEvent.forApplication("com.lgi.app1").asRemote()));
+    }
+
+    private CatalogChangeBus createNode(List<Object> events) {
+        return new CatalogChangeBus(dslContext, dataSourceProperties, new JsonProcessorHelper(ObjectMapperFactory.create()), events::add,
+                "catalog_change_bus_test", Duration.ofMillis(200), Duration.ofMillis(100));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServlet;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestSummaryFilterTest {
+
+    @Test
+    void payloadLoggingIsRequestedByHeaderWhenEnabled() throws ServletException, IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apps");
+        request.addHeader(RequestSummaryFilter.X_DEBUG_PAYLOAD_HEADER_NAME, "true");
+
+        new RequestSummaryFilter(1.0, true).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(request.getAttribute(PayloadLogHelper.PAYLOAD_LOGGING_ATTRIBUTE)).isEqualTo(Boolean.TRUE);
+    }
+
+    @Test
+    void payloadLoggingHeaderIsIgnoredWhenDisabled() throws ServletException, IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/apps");
+        request.addHeader(RequestSummaryFilter.X_DEBUG_PAYLOAD_HEADER_NAME, "true");
+
+        new RequestSummaryFilter(1.0, false).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(request.getAttribute(PayloadLogHelper.PAYLOAD_LOGGING_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    void responseBytesAreCountedWithoutChangingTheResponse() throws ServletException, IOException {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final AtomicReference<RequestSummaryFilter.CountingResponseWrapper> countingResponse = new AtomicReference<>();
+        final HttpServlet servlet = new HttpServlet() {
+            @Override
+            public void service(ServletRequest req, ServletResponse res) throws IOException {
+                countingResponse.set((RequestSummaryFilter.CountingResponseWrapper) res);
+                res.getWriter().write("{\"name\":\"żółw\"}");
+            }
+        };
+
+        new RequestSummaryFilter(0.0, false).doFilter(new MockHttpServletRequest("GET", "/apps"), response, new MockFilterChain(servlet));
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"name\":\"żółw\"}");
+        assertThat(countingResponse.get().getBytesWritten()).isEqualTo(response.getContentAsByteArray().length);
+    }
+}
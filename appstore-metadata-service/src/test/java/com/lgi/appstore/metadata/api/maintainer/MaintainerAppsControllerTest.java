@@ -19,9 +19,16 @@
 package com.lgi.appstore.metadata.api.maintainer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lgi.appstore.metadata.api.converter.StringToApplicationCursorConverter;
 import com.lgi.appstore.metadata.api.converter.StringToCategoryConverter;
+import com.lgi.appstore.metadata.api.converter.StringToIncludeTotalConverter;
 import com.lgi.appstore.metadata.api.converter.StringToPlatformConverter;
 import com.lgi.appstore.metadata.api.error.GlobalExceptionHandler;
+import com.lgi.appstore.metadata.model.Application;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
+import com.lgi.appstore.metadata.model.ApplicationImportResult;
+import com.lgi.appstore.metadata.model.ApplicationImportResults;
+import com.lgi.appstore.metadata.model.ApplicationImportStatus;
 import com.lgi.appstore.metadata.model.MaintainerApplicationDetails;
 import com.lgi.appstore.metadata.model.MaintainerApplicationHeader;
 import com.lgi.appstore.metadata.model.MaintainerApplicationsList;
@@ -34,6 +41,7 @@ import com.lgi.appstore.metadata.model.Meta;
 import com.lgi.appstore.metadata.model.Platform;
 import com.lgi.appstore.metadata.model.Requirements;
 import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.util.ObjectMapperFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,9 +55,13 @@ import org.springframework.format.support.FormattingConversionService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import javax.validation.Validation;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -87,6 +99,8 @@ class MaintainerAppsControllerTest {
         final FormattingConversionService conversionService = new FormattingConversionService();
         conversionService.addConverter(new StringToCategoryConverter());
         conversionService.addConverter(new StringToPlatformConverter());
+        conversionService.addConverter(new StringToApplicationCursorConverter());
+        conversionService.addConverter(new StringToIncludeTotalConverter());
 
         mvc = MockMvcBuilders.standaloneSetup(maintainerAppsController)
                 .addFilter(((request, response, chain) -> {
@@ -96,6 +110,8 @@ class MaintainerAppsControllerTest {
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setConversionService(conversionService)
                 .build();
+        ReflectionTestUtils.setField(maintainerAppsController, "objectMapper", ObjectMapperFactory.create());
+        ReflectionTestUtils.setField(maintainerAppsController, "validator", Validation.buildDefaultValidatorFactory().getValidator());
     }
 
     private static final String MAINTAINER_CODE = "lgi";
@@ -353,9 +369,9 @@ class MaintainerAppsControllerTest {
     @Test
     void canListMaintainersAppsWhenThereAreSomePresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, null, null))
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, null, null, null, null))
                 .willReturn(NON_EMPTY_APPLICATIONS_LIST);
 
         // when
@@ -372,9 +388,9 @@ class MaintainerAppsControllerTest {
     @Test
     void canListAppsWhenThereAreNoPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, null, null))
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, null, null, null, null))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
 
         // when
@@ -391,9 +407,9 @@ class MaintainerAppsControllerTest {
     @Test
     void canListAppsByNameWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, "flutter", null, null, null, null, null, null, null))
+        given(appsService.listApplications(MAINTAINER_CODE, "flutter", null, null, null, null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -410,9 +426,9 @@ class MaintainerAppsControllerTest {
     @Test
     void canListAppsByDescriptionWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, "Container contains both Flutter", null, null, null, null, null, null))
+        given(appsService.listApplications(MAINTAINER_CODE, null, "Container contains both Flutter", null, null, null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -430,9 +446,9 @@ class MaintainerAppsControllerTest {
     @Test
     void canListAppsByVersionWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, null, "0.0.1", null, null, null, null, null))
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, "0.0.1", null, null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -449,9 +465,9 @@ class MaintainerAppsControllerTest {
     @Test
     void canListAppsByTypeWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, "application/vnd.rdk-app.dac.native", null, null, null, null))
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, "application/vnd.rdk-app.dac.native", null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -470,9 +486,9 @@ class MaintainerAppsControllerTest {
         // given
         final Platform platform = new Platform().architecture("arm").variant("v7").os("linux");
 
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, platform, null, null, null))
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, platform, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -503,9 +519,9 @@ class MaintainerAppsControllerTest {
     @Test
     void canListAppsByCategoryWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(eq(MAINTAINER_CODE), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(eq(MAINTAINER_CODE), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, Category.fromValue("application"), null, null))
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, Category.fromValue("application"), null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -536,9 +552,9 @@ class MaintainerAppsControllerTest {
     @Test
     void canListAppsByOffsetWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(eq(MAINTAINER_CODE), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(eq(MAINTAINER_CODE), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, 1, null))
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, 1, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -552,12 +568,32 @@ class MaintainerAppsControllerTest {
         assertThat(response.getContentAsString()).isEqualTo(jsonMaintainerApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
     }
 
+    @Test
+    void canListAppsByCursorWhenThereAreSomeAppsPresent() throws Exception {
+        // given
+        final ApplicationCursor cursor = ApplicationCursor.of("com.lgi.app", "1.2.3");
+        given(appsService.listApplications(eq(MAINTAINER_CODE), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(EMPTY_APPLICATIONS_LIST);
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, null, null, cursor, null))
+                .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/maintainers/{maintainerCode}/apps?cursor=" + cursor, MAINTAINER_CODE).accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo(jsonMaintainerApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
+    }
+
     @Test
     void canListAppsByLimitWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(eq(MAINTAINER_CODE), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(eq(MAINTAINER_CODE), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, null, 1))
+        given(appsService.listApplications(MAINTAINER_CODE, null, null, null, null, null, null, null, 1, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -690,6 +726,84 @@ class MaintainerAppsControllerTest {
         assertThat(response.getStatus()).isEqualTo(HttpStatus.CREATED.value());
     }
 
+    @Test
+    void canImportApplicationsSentAsJsonArray() throws Exception {
+        // given
+        given(appsService.importApplications(eq(MAINTAINER_CODE), any())).willAnswer(invocation -> importedApplications(invocation.getArgument(1)));
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(
+                        post("/maintainers/{maintainerCode}/apps:bulk", MAINTAINER_CODE)
+                                .content("[" + CORRECT_APPLICATION_AS_JSON + "," + CORRECT_APPLICATION_AS_JSON.replace("1.2.3", "1.2.4") + "]")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo("{\"results\":["
+                + "{\"id\":\"com.libertyglobal.app.awesome\",\"version\":\"1.2.3\",\"status\":\"created\"},"
+                + "{\"id\":\"com.libertyglobal.app.awesome\",\"version\":\"1.2.4\",\"status\":\"created\"}]}");
+    }
+
+    @Test
+    void canImportApplicationsSentAsNdjson() throws Exception {
+        // given
+        given(appsService.importApplications(eq(MAINTAINER_CODE), any())).willAnswer(invocation -> importedApplications(invocation.getArgument(1)));
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(
+                        post("/maintainers/{maintainerCode}/apps:bulk", MAINTAINER_CODE)
+                                .content(CORRECT_APPLICATION_AS_JSON + "\n" + CORRECT_APPLICATION_AS_JSON.replace("1.2.3", "1.2.4") + "\n")
+                                .contentType("application/x-ndjson"))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).contains("\"version\":\"1.2.3\"", "\"version\":\"1.2.4\"");
+    }
+
+    @Test
+    void cannotImportApplicationsWhenAnyIsInvalid() throws Exception {
+        // given
+        given(appsService.importApplications(eq(MAINTAINER_CODE), any())).willAnswer(invocation -> importedApplications(invocation.getArgument(1)));
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(
+                        post("/maintainers/{maintainerCode}/apps:bulk", MAINTAINER_CODE)
+                                .content(CORRECT_APPLICATION_AS_JSON + "\n" + APPLICATION_WITHOUT_VERSION_AS_JSON)
+                                .contentType("application/x-ndjson"))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).isEqualTo("{\"message\":\"Application at index 1 can't be imported: [header.version: must not be null]\"}");
+    }
+
+    @Test
+    void cannotImportApplicationWithoutCategory() throws Exception {
+        // given
+        given(appsService.importApplications(eq(MAINTAINER_CODE), any())).willAnswer(invocation -> importedApplications(invocation.getArgument(1)));
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(
+                        post("/maintainers/{maintainerCode}/apps:bulk", MAINTAINER_CODE)
+                                .content("[" + CORRECT_APPLICATION_AS_JSON.replace("      \"category\": \"application\",", "") + "]")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).isEqualTo("{\"message\":\"Application at index 0 can't be imported: [header.category: must not be null]\"}");
+    }
+
     @Test
     void cannotAddApplicationWithoutAVersion() throws Exception {
         // given
@@ -819,6 +933,15 @@ class MaintainerAppsControllerTest {
         assertThat(response.getContentAsString()).isEqualTo("{\"message\":\"[header.id: must match \\\"^(?!\\\\s*$).+\\\"]\"}");
     }
 
+    private static ApplicationImportResults importedApplications(Iterator<Application> applications) {
+        final ApplicationImportResults importResults = new ApplicationImportResults().results(new ArrayList<>());
+        applications.forEachRemaining(application -> importResults.getResults().add(new ApplicationImportResult()
+                .id(application.getHeader().getId())
+                .version(application.getHeader().getVersion())
+                .status(ApplicationImportStatus.CREATED)));
+        return importResults;
+    }
+
     @Test
     void cannotGetApplicationDetailsWithoutPlatformName() throws Exception {
         // given
@@ -18,15 +18,26 @@
  */
 package com.lgi.appstore.metadata.api.maintainer;
 
+import com.lgi.appstore.metadata.api.catalog.CatalogGenerationService;
 import com.lgi.appstore.metadata.api.error.ApplicationAlreadyExistsException;
+import com.lgi.appstore.metadata.api.error.ExpiredChangesTokenException;
+import com.lgi.appstore.metadata.api.error.InvalidApplicationImportException;
+import com.lgi.appstore.metadata.api.error.InvalidChangesTokenException;
 import com.lgi.appstore.metadata.api.error.MaintainerNotFoundException;
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
 import com.lgi.appstore.metadata.api.service.BaseServiceTest;
+import com.lgi.appstore.metadata.jooq.model.tables.records.ApplicationRecord;
 import com.lgi.appstore.metadata.jooq.model.tables.records.MaintainerRecord;
 import com.lgi.appstore.metadata.model.Application;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.ApplicationForUpdate;
 import com.lgi.appstore.metadata.model.ApplicationHeaderForUpdate;
+import com.lgi.appstore.metadata.model.ApplicationImportResult;
+import com.lgi.appstore.metadata.model.ApplicationImportResults;
+import com.lgi.appstore.metadata.model.ApplicationImportStatus;
 import com.lgi.appstore.metadata.model.ApplicationType;
 import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.ChangesToken;
 import com.lgi.appstore.metadata.model.Dependency;
 import com.lgi.appstore.metadata.model.Feature;
 import com.lgi.appstore.metadata.model.Hardware;
@@ -41,10 +52,15 @@ import com.lgi.appstore.metadata.model.Meta;
 import com.lgi.appstore.metadata.model.Platform;
 import com.lgi.appstore.metadata.model.Requirements;
 import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.model.StbApplicationChanges;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.util.ApplicationChangeHelper;
 import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
 import com.lgi.appstore.metadata.util.ApplicationUrlService;
-import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import com.lgi.appstore.metadata.util.CatalogGenerationHelper;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
@@ -53,16 +69,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_CHANGE;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_LATEST;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PersistentAppsServiceTest extends BaseServiceTest {
@@ -70,12 +94,18 @@ class PersistentAppsServiceTest extends BaseServiceTest {
     private static final String DEFAULT_VERSION = "1.0.0";
     private static final String NEW_VERSION = "1.1.0";
 
+    private final CatalogGenerationService catalogGenerationService;
     private final AppsService appsService;
+    private final com.lgi.appstore.metadata.api.stb.AppsService stbAppsService;
+    private final DSLContext dslContext;
 
     @Autowired
     public PersistentAppsServiceTest(DSLContext dslContext) {
+        this.dslContext = dslContext;
         final var applicationUrlService = new ApplicationUrlService(new ApplicationUrlCreator("", ""), List.of(ApplicationType.HTML5));
-        appsService = new PersistentAppsService(dslContext, new JsonProcessorHelper(objectMapper), applicationUrlService);
+        catalogGenerationService = new CatalogGenerationService(dslContext, Duration.ofHours(1));
+        appsService = new PersistentAppsService(dslContext, applicationUrlService, event -> catalogGenerationService.onCatalogChanged((CatalogChangedEvent) event));
+        stbAppsService = new com.lgi.appstore.metadata.api.stb.PersistentAppsService(dslContext, applicationUrlService);
     }
 
     @Test
@@ -122,7 +152,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
                 application.getRequirements().getPlatform(),
                 maintainerApplicationHeader.getCategory(),
                 offset,
-                limit);
+                limit, null, null);
 
         assertThat(maintainerApplicationsList).isNotNull();
         final Meta meta = maintainerApplicationsList.getMeta();
@@ -298,6 +328,117 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         assertThat(maybeMaintainerApplicationDetailsAfterDeletion).isEmpty();
     }
 
+    @Test
+    void catalogGenerationAdvancesOnlyWhenApplicationsChange() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        final long initialGeneration = CatalogGenerationHelper.fetch(dslContext).getGeneration();
+
+        final Application application = createRandomApplication(maintainerCode);
+        final long generationAfterAdd = CatalogGenerationHelper.fetch(dslContext).getGeneration();
+        appsService.deleteApplication(maintainerCode, application.getHeader().getId(), NEW_VERSION);
+        final long generationAfterNoOpDelete = CatalogGenerationHelper.fetch(dslContext).getGeneration();
+        appsService.deleteAllApplicationVersions(maintainerCode, application.getHeader().getId());
+        final long generationAfterDelete = CatalogGenerationHelper.fetch(dslContext).getGeneration();
+
+        assertThat(generationAfterAdd).isEqualTo(initialGeneration + 1);
+        assertThat(generationAfterNoOpDelete).isEqualTo(generationAfterAdd);
+        assertThat(generationAfterDelete).isEqualTo(generationAfterAdd + 1);
+    }
+
+    @Test
+    void cachedCatalogGenerationIsDroppedWhenCatalogChanges() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final long initialGeneration = catalogGenerationService.currentGeneration().getGeneration();
+
+        createRandomApplication(maintainerRecord.getCode());
+
+        assertThat(catalogGenerationService.currentGeneration().getGeneration()).isEqualTo(initialGeneration + 1);
+    }
+
+    @Test
+    void latestPointersMoveWithoutRewritingApplicationRows() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        final String applicationId = UUID.randomUUID().toString();
+        createRandomApplication(maintainerCode, DEFAULT_VERSION, applicationId);
+        createRandomApplication(maintainerCode, "1.2.0", applicationId);
+        createRandomApplication(maintainerCode, "1.10.0", applicationId);
+        final Map<String, String> rowLocationsBefore = rowLocationsByVersion(applicationId);
+
+        final Application hiddenVersion = buildRandomApplication("2.0.0", applicationId);
+        hiddenVersion.getHeader().visible(false);
+        appsService.addApplication(maintainerCode, hiddenVersion);
+
+        assertThat(latestVersions(applicationId)).isEqualTo(Pair.of("1.10.0", "2.0.0"));
+        assertThat(rowLocationsByVersion(applicationId)).containsAllEntriesOf(rowLocationsBefore);
+
+        appsService.deleteLatestApplication(maintainerCode, applicationId);
+        assertThat(latestVersions(applicationId)).isEqualTo(Pair.of("1.10.0", "1.10.0"));
+
+        appsService.deleteAllApplicationVersions(maintainerCode, applicationId);
+        assertThat(dslContext.fetchCount(APPLICATION_LATEST, APPLICATION_LATEST.ID_RDOMAIN.eq(applicationId))).isZero();
+    }
+
+    @Test
+    void importAddsNewVersionsInOneCatalogChangeAndReportsConflicts() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        final String applicationId = UUID.randomUUID().toString();
+        final String otherApplicationId = UUID.randomUUID().toString();
+        createRandomApplication(maintainerCode, DEFAULT_VERSION, applicationId);
+        final long initialGeneration = CatalogGenerationHelper.fetch(dslContext).getGeneration();
+
+        final ApplicationImportResults importResults = appsService.importApplications(maintainerCode, List.of(
+                buildRandomApplication("2.0.0", applicationId),
+                buildRandomApplication(DEFAULT_VERSION, applicationId),
+                buildRandomApplication(NEW_VERSION, applicationId),
+                buildRandomApplication("2.0.0", applicationId),
+                buildRandomApplication(DEFAULT_VERSION, otherApplicationId)).iterator());
+
+        assertThat(importResults.getResults())
+                .extracting(ApplicationImportResult::getId, ApplicationImportResult::getVersion, ApplicationImportResult::getStatus)
+                .containsExactly(
+                        tuple(applicationId, "2.0.0", ApplicationImportStatus.CREATED),
+                        tuple(applicationId, DEFAULT_VERSION, ApplicationImportStatus.CONFLICT),
+                        tuple(applicationId, NEW_VERSION, ApplicationImportStatus.CREATED),
+                        tuple(applicationId, "2.0.0", ApplicationImportStatus.CONFLICT),
+                        tuple(otherApplicationId, DEFAULT_VERSION, ApplicationImportStatus.CREATED));
+        assertThat(CatalogGenerationHelper.fetch(dslContext).getGeneration()).isEqualTo(initialGeneration + 1);
+        assertThat(appsService.getApplicationDetails(maintainerCode, applicationId, "", ""))
+                .map(details -> details.getHeader().getVersion())
+                .contains("2.0.0");
+        assertThat(stbAppsService.getApplicationDetails(applicationId, "", ""))
+                .map(details -> details.getHeader().getVersion())
+                .contains("2.0.0");
+        assertThat(appsService.getApplicationDetails(maintainerCode, otherApplicationId, "", "")).isPresent();
+    }
+
+    @Test
+    void importWithMissingMandatoryFieldIsRejectedBeforeAnythingIsImported() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        final String applicationId = UUID.randomUUID().toString();
+        final Application applicationWithoutCategory = buildRandomApplication(NEW_VERSION, applicationId);
+        applicationWithoutCategory.getHeader().setCategory(null);
+        final Iterator<Application> applications = List.of(buildRandomApplication(DEFAULT_VERSION, applicationId), applicationWithoutCategory).iterator();
+        final long initialGeneration = CatalogGenerationHelper.fetch(dslContext).getGeneration();
+
+        final InvalidApplicationImportException exception = assertThrows(InvalidApplicationImportException.class,
+                () -> appsService.importApplications(maintainerCode, applications));
+
+        assertThat(exception).hasMessage("Application at index 1 can't be imported: [header.category: must not be null]");
+        assertThat(appsService.getApplicationDetails(maintainerCode, applicationId, "", "")).isEmpty();
+        assertThat(CatalogGenerationHelper.fetch(dslContext).getGeneration()).isEqualTo(initialGeneration);
+    }
+
+    @Test
+    void importForNonExistentMaintainerIsRejected() {
+        final Iterator<Application> applications = List.of(buildRandomApplication(DEFAULT_VERSION, UUID.randomUUID().toString())).iterator();
+
+        assertThrows(MaintainerNotFoundException.class, () -> appsService.importApplications(UUID.randomUUID().toString(), applications));
+    }
+
     @Test
     void applicationDetailsVersionsAreSorted() {
         final String[] unorderedVersions = new String[]{"1.0.1", "10.2.2", "2.1", "10.1.3", "10.1.2", "1.5", "5", "1", "2"};
@@ -340,6 +481,74 @@ class PersistentAppsServiceTest extends BaseServiceTest {
                 .containsExactlyElementsOf(orderedVersions);
     }
 
+    @Test
+    void preReleaseVersionsSortBelowTheirRelease() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        final String applicationId = UUID.randomUUID().toString();
+        List.of("1.0.0-rc1", "0.9.0", "1.0.0", "1.0.0-rc2", "2.0.0-beta").forEach(version -> createRandomApplication(maintainerCode, version, applicationId));
+        appsService.deleteApplication(maintainerCode, applicationId, "2.0.0-beta");
+
+        final Optional<MaintainerApplicationDetails> maybeMaintainerApplicationDetails = appsService.getApplicationDetails(maintainerCode, applicationId, "", "");
+
+        assertThat(maybeMaintainerApplicationDetails).isPresent();
+        final MaintainerApplicationDetails maintainerApplicationDetails = maybeMaintainerApplicationDetails.get();
+        assertThat(maintainerApplicationDetails.getHeader().getVersion()).isEqualTo("1.0.0");
+        assertThat(maintainerApplicationDetails.getVersions().stream().map(MaintainerVersion::getVersion).collect(Collectors.toList()))
+                .containsExactly("1.0.0", "1.0.0-rc2", "1.0.0-rc1", "0.9.0");
+    }
+
+    @Test
+    void preReleaseIdentifiersFollowSemanticVersioningPrecedence() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        final String applicationId = UUID.randomUUID().toString();
+        List.of("1.0.0-rc.2", "1.0.0-alpha.beta", "1.0.0", "1.0.0-alpha", "1.0.0-rc.10", "1.0.0-alpha.1.1", "1.0.0-alpha.1", "1.0.0-rc.1+build.5")
+                .forEach(version -> createRandomApplication(maintainerCode, version, applicationId));
+
+        final Optional<MaintainerApplicationDetails> maybeMaintainerApplicationDetails = appsService.getApplicationDetails(maintainerCode, applicationId, "", "");
+
+        assertThat(maybeMaintainerApplicationDetails).isPresent();
+        assertThat(maybeMaintainerApplicationDetails.get().getVersions().stream().map(MaintainerVersion::getVersion).collect(Collectors.toList()))
+                .containsExactly("1.0.0", "1.0.0-rc.10", "1.0.0-rc.2", "1.0.0-rc.1+build.5", "1.0.0-alpha.beta", "1.0.0-alpha.1.1", "1.0.0-alpha.1", "1.0.0-alpha");
+    }
+
+    @Test
+    void platformFilterValuesAreNotInterpretedAsSql() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        createRandomApplication(maintainerCode);
+
+        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null,
+                new Platform().architecture("x' or '1' = '1").os("o' or '1' = '1"), null, null, null, null, null);
+
+        assertThat(maintainerApplicationsList.getApplications()).isEmpty();
+        assertThat(maintainerApplicationsList.getMeta().getResultSet().getTotal()).isZero();
+    }
+
+    @Test
+    void nameAndDescriptionFiltersMatchValuesLiterally() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        final ApplicationRecord applicationRecord = createRandomApplicationRecord(maintainerRecord, "TestApplication1", "1.0.0", true);
+        applicationRecord.setName("It's 100% fun").setDescription("Quoted 'description'").update();
+        createRandomApplicationRecord(maintainerRecord, "TestApplication2", "1.0.0", true);
+
+        final MaintainerApplicationsList byName = appsService.listApplications(maintainerCode, "'S 100%", null, null, null, null, null, null, null,
+                null, null);
+        final MaintainerApplicationsList byDescription = appsService.listApplications(maintainerCode, null, "'DESCRIPTION'", null, null, null, null,
+                null, null, null, null);
+        final MaintainerApplicationsList injected = appsService.listApplications(maintainerCode, "x' or '1' = '1", null, null, null, null, null,
+                null, null, null, null);
+        final MaintainerApplicationsList wildcard = appsService.listApplications(maintainerCode, "%", null, null, null, null, null, null, null,
+                null, null);
+
+        assertThat(byName.getApplications()).extracting(MaintainerApplicationHeader::getId).containsExactly("TestApplication1");
+        assertThat(byDescription.getApplications()).extracting(MaintainerApplicationHeader::getId).containsExactly("TestApplication1");
+        assertThat(injected.getApplications()).isEmpty();
+        assertThat(wildcard.getApplications()).extracting(MaintainerApplicationHeader::getId).containsExactly("TestApplication1");
+    }
+
     @Test
     void omittingLimitParamReturnsAllApplications() {
         final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
@@ -349,7 +558,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         final Application application1 = createRandomApplication(maintainerCode, "1.0.0", applicationId1);
         final Application application2 = createRandomApplication(maintainerCode, "1.0.0", applicationId2);
 
-        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, null);
+        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, null, null, null);
 
         assertThat(maintainerApplicationsList).isNotNull();
         final Meta meta = maintainerApplicationsList.getMeta();
@@ -372,7 +581,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         final Application application1 = createRandomApplication(maintainerCode, "1.0.0", applicationId1);
         final Application application2 = createRandomApplication(maintainerCode, "1.0.0", applicationId2);
 
-        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 10);
+        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 10, null, null);
 
         assertThat(maintainerApplicationsList).isNotNull();
         final Meta meta = maintainerApplicationsList.getMeta();
@@ -395,7 +604,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         final Application application1 = createRandomApplication(maintainerCode, "1.0.0", applicationId1);
         final Application application2 = createRandomApplication(maintainerCode, "1.0.0", applicationId2);
 
-        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 1);
+        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 1, null, null);
 
         assertThat(maintainerApplicationsList).isNotNull();
         final Meta meta = maintainerApplicationsList.getMeta();
@@ -418,7 +627,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         final Application application1 = createRandomApplication(maintainerCode, "1.0.0", applicationId1);
         final Application application2 = createRandomApplication(maintainerCode, "1.0.0", applicationId2);
 
-        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 2);
+        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 2, null, null);
 
         assertThat(maintainerApplicationsList).isNotNull();
         final Meta meta = maintainerApplicationsList.getMeta();
@@ -441,7 +650,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         final Application application1 = createRandomApplication(maintainerCode, "1.0.0", applicationId1);
         final Application application2 = createRandomApplication(maintainerCode, "1.0.0", applicationId2);
 
-        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 0);
+        final MaintainerApplicationsList maintainerApplicationsList = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 0, null, null);
 
         assertThat(maintainerApplicationsList).isNotNull();
         final Meta meta = maintainerApplicationsList.getMeta();
@@ -455,6 +664,137 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         assertThat(applications).isNotNull().hasSize(2);
     }
 
+    @Test
+    void preferredVersionIsListedOnceAndPagesAreFull() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        final String applicationId1 = "TestApplication1";
+        final String applicationId2 = "TestApplication2";
+        createRandomApplication(maintainerCode, "1.0.0", applicationId1);
+        createRandomApplication(maintainerCode, "2.0.0", applicationId1);
+        createRandomApplication(maintainerCode, "1.0.0", applicationId2);
+        final ApplicationForUpdate preferredApplication = new ApplicationForUpdate()
+                .header(createRandomApplicationHeaderForUpdate(createRandomLocalization(), "1.0.0").preferred(true))
+                .requirements(new Requirements()
+                        .hardware(createRandomHardware())
+                        .platform(createRandomPlatform())
+                        .dependencies(Collections.singletonList(createRandomDependency()))
+                        .features(Collections.singletonList(createRandomFeature())));
+        appsService.updateApplication(maintainerCode, applicationId1, "1.0.0", preferredApplication);
+
+        final MaintainerApplicationsList firstPage = appsService.listApplications(maintainerCode, null, null, null, null, null, null, 0, 1, null, null);
+        final MaintainerApplicationsList secondPage = appsService.listApplications(maintainerCode, null, null, null, null, null, null, 1, 1, null, null);
+
+        assertThat(firstPage.getMeta().getResultSet().getCount()).isEqualTo(1);
+        assertThat(firstPage.getMeta().getResultSet().getTotal()).isEqualTo(2);
+        assertThat(firstPage.getApplications()).hasSize(1);
+        assertThat(firstPage.getApplications().get(0).getId()).isEqualTo(applicationId1);
+        assertThat(firstPage.getApplications().get(0).getVersion()).isEqualTo("1.0.0");
+        assertThat(secondPage.getMeta().getResultSet().getTotal()).isEqualTo(2);
+        assertThat(secondPage.getApplications()).hasSize(1);
+        assertThat(secondPage.getApplications().get(0).getId()).isEqualTo(applicationId2);
+    }
+
+    @Test
+    void cursorWalksThroughAllApplications() {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String maintainerCode = maintainerRecord.getCode();
+        createRandomApplication(maintainerCode, "1.0.0", "TestApplication1");
+        createRandomApplication(maintainerCode, "2.0.0", "TestApplication1");
+        createRandomApplication(maintainerCode, "1.0.0", "TestApplication2");
+        createRandomApplication(maintainerCode, "1.0.0", "TestApplication3");
+
+        final MaintainerApplicationsList firstPage = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 2, null, null);
+        final String nextCursor = firstPage.getMeta().getResultSet().getNextCursor();
+        final MaintainerApplicationsList secondPage = appsService.listApplications(maintainerCode, null, null, null, null, null, null, null, 2, ApplicationCursor.fromString(nextCursor), null);
+
+        assertThat(firstPage.getApplications()).extracting(MaintainerApplicationHeader::getId).containsExactly("TestApplication1", "TestApplication2");
+        assertThat(nextCursor).isNotNull();
+        assertThat(secondPage.getApplications()).extracting(MaintainerApplicationHeader::getId).containsExactly("TestApplication3");
+        assertThat(secondPage.getMeta().getResultSet().getTotal()).isEqualTo(3);
+        assertThat(secondPage.getMeta().getResultSet().getNextCursor()).isNull();
+    }
+
+    @Test
+    void applicationChangesReportAddedUpdatedAndRemovedApplications() {
+        final String maintainerCode = createRandomMaintainerRecord().getCode();
+        final String updatedApplicationId = createRandomApplication(maintainerCode).getHeader().getId();
+        final String deletedApplicationId = createRandomApplication(maintainerCode).getHeader().getId();
+        final String hiddenApplicationId = createRandomApplication(maintainerCode).getHeader().getId();
+        final ChangesToken since = ChangesToken.of(CatalogGenerationHelper.fetch(dslContext).getGeneration());
+
+        final String addedApplicationId = createRandomApplication(maintainerCode).getHeader().getId();
+        createRandomApplication(maintainerCode, NEW_VERSION, updatedApplicationId);
+        appsService.deleteAllApplicationVersions(maintainerCode, deletedApplicationId);
+        final ApplicationForUpdate hiddenApplication = new ApplicationForUpdate()
+                .header(createRandomApplicationHeaderForUpdate(createRandomLocalization()).visible(false))
+                .requirements(new Requirements()
+                        .hardware(createRandomHardware())
+                        .platform(createRandomPlatform())
+                        .dependencies(Collections.singletonList(createRandomDependency()))
+                        .features(Collections.singletonList(createRandomFeature())));
+        appsService.updateLatestApplication(maintainerCode, hiddenApplicationId, hiddenApplication);
+        final StbApplicationChanges applicationChanges = stbAppsService.listApplicationChanges(since);
+
+        assertThat(applicationChanges.getAdded()).extracting(StbApplicationHeader::getId).containsExactly(addedApplicationId);
+        assertThat(applicationChanges.getUpdated())
+                .extracting(StbApplicationHeader::getId, StbApplicationHeader::getVersion)
+                .containsExactly(tuple(updatedApplicationId, NEW_VERSION));
+        assertThat(applicationChanges.getRemoved()).containsExactlyInAnyOrder(deletedApplicationId, hiddenApplicationId);
+        assertThat(ChangesToken.fromString(applicationChanges.getToken()).getGeneration()).isEqualTo(since.getGeneration() + 4);
+
+        final StbApplicationChanges noChanges = stbAppsService.listApplicationChanges(ChangesToken.fromString(applicationChanges.getToken()));
+        assertThat(noChanges.getAdded()).isEmpty();
+        assertThat(noChanges.getUpdated()).isEmpty();
+        assertThat(noChanges.getRemoved()).isEmpty();
+        assertThat(noChanges.getToken()).isEqualTo(applicationChanges.getToken());
+    }
+
+    @Test
+    void applicationChangesRejectTokenAheadOfCatalog() {
+        final ChangesToken since = ChangesToken.of(CatalogGenerationHelper.fetch(dslContext).getGeneration() + 1);
+
+        assertThrows(InvalidChangesTokenException.class, () -> stbAppsService.listApplicationChanges(since));
+    }
+
+    @Test
+    void applicationChangesRejectTokenOlderThanRetainedChanges() {
+        final String maintainerCode = createRandomMaintainerRecord().getCode();
+        final String updatedApplicationId = createRandomApplication(maintainerCode).getHeader().getId();
+        final ChangesToken expired = ChangesToken.of(CatalogGenerationHelper.fetch(dslContext).getGeneration());
+        createRandomApplication(maintainerCode, NEW_VERSION, updatedApplicationId);
+        final ChangesToken since = ChangesToken.of(CatalogGenerationHelper.fetch(dslContext).getGeneration());
+
+        ApplicationChangeHelper.prune(dslContext, OffsetDateTime.now().plusMinutes(1));
+        createRandomApplication(maintainerCode, "2.0.0", updatedApplicationId);
+        final StbApplicationChanges applicationChanges = stbAppsService.listApplicationChanges(since);
+
+        assertThrows(ExpiredChangesTokenException.class, () -> stbAppsService.listApplicationChanges(expired));
+        assertThat(applicationChanges.getAdded()).isEmpty();
+        assertThat(applicationChanges.getUpdated()).extracting(StbApplicationHeader::getId).containsExactly(updatedApplicationId);
+        assertThat(dslContext.fetchCount(APPLICATION_CHANGE, APPLICATION_CHANGE.ID_RDOMAIN.eq(updatedApplicationId))).isEqualTo(2);
+    }
+
+    private Pair<String, String> latestVersions(String applicationId) {
+        final com.lgi.appstore.metadata.jooq.model.tables.Application stbLatest = APPLICATION.as("stb_latest");
+        final com.lgi.appstore.metadata.jooq.model.tables.Application maintainerLatest = APPLICATION.as("maintainer_latest");
+        return dslContext.select(stbLatest.VERSION, maintainerLatest.VERSION)
+                .from(APPLICATION_LATEST)
+                .leftJoin(stbLatest)
+                .on(stbLatest.ID.eq(APPLICATION_LATEST.STB_LATEST_ID))
+                .innerJoin(maintainerLatest)
+                .on(maintainerLatest.ID.eq(APPLICATION_LATEST.MAINTAINER_LATEST_ID))
+                .where(APPLICATION_LATEST.ID_RDOMAIN.eq(applicationId))
+                .fetchOne(latestRecord -> Pair.of(latestRecord.value1(), latestRecord.value2()));
+    }
+
+    private Map<String, String> rowLocationsByVersion(String applicationId) {
+        return dslContext.select(APPLICATION.VERSION, DSL.field("ctid::text", String.class))
+                .from(APPLICATION)
+                .where(APPLICATION.ID_RDOMAIN.eq(applicationId))
+                .fetchMap(APPLICATION.VERSION, DSL.field("ctid::text", String.class));
+    }
+
     private Application createRandomApplication(String maintainerCode) {
         return createRandomApplication(maintainerCode, DEFAULT_VERSION);
     }
@@ -464,6 +804,13 @@ class PersistentAppsServiceTest extends BaseServiceTest {
     }
 
     private Application createRandomApplication(String maintainerCode, String version, String applicationId) {
+        final Application application = buildRandomApplication(version, applicationId);
+        appsService.addApplication(maintainerCode, application);
+
+        return application;
+    }
+
+    private Application buildRandomApplication(String version, String applicationId) {
         final Hardware hardware = createRandomHardware();
         final Platform platform = createRandomPlatform();
         final Dependency dependency = createRandomDependency();
@@ -475,12 +822,9 @@ class PersistentAppsServiceTest extends BaseServiceTest {
                 .features(Collections.singletonList(feature));
         final Localization localization = createRandomLocalization();
         final MaintainerApplicationHeader maintainerApplicationHeader = createRandomMaintainerApplicationHeader(localization, applicationId, version);
-        final Application application = new Application()
+        return new Application()
                 .requirements(requirements)
                 .header(maintainerApplicationHeader);
-        appsService.addApplication(maintainerCode, application);
-
-        return application;
     }
 
     private MaintainerApplicationHeader createRandomMaintainerApplicationHeader(Localization localization) {
@@ -0,0 +1,110 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.persistence;
+
+import com.lgi.appstore.metadata.api.service.BaseServiceTest;
+import com.lgi.appstore.metadata.api.stb.AppsService;
+import com.lgi.appstore.metadata.api.stb.PersistentAppsService;
+import com.lgi.appstore.metadata.model.ApplicationType;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Meta;
+import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import org.jooq.DSLContext;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_LATEST;
+import static com.lgi.appstore.metadata.jooq.model.Tables.MAINTAINER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LargeResultSetTest extends BaseServiceTest {
+
+    private static final int FIXTURE_SIZE = 100_000;
+    private static final long BOUNDED_HEAP_GROWTH = 16L * 1024 * 1024;
+
+    private final DSLContext dslContext;
+    private final ApplicationUrlService applicationUrlService = new ApplicationUrlService(new ApplicationUrlCreator("", ""), List.of(ApplicationType.HTML5));
+
+    @Autowired
+    public LargeResultSetTest(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    @BeforeEach
+    void setUp() {
+        dslContext.execute("insert into {0} (code, name) values ('bulk-fixture', 'Bulk fixture')", MAINTAINER);
+        dslContext.execute("insert into {0} (maintainer_id, id_rdomain, version, visible, name, description, preferred, type, category, platform, hardware, features, dependencies, localizations) "
+                + "select m.id, 'com.lgi.bulk' || a, '1.0.0', true, "
+                + "'name ' || md5(a::text), repeat(md5(a::text), 8), false, 'application/vnd.rdk-app.dac.native', 'application', '{}', '{}', '[]', '[]', '[]' "
+                + "from generate_series(1, {1}) a join {2} m on m.code = 'bulk-fixture'",
+                APPLICATION, DSL.inline(FIXTURE_SIZE), MAINTAINER);
+        dslContext.execute("insert into {0} (id_rdomain, maintainer_id, stb_latest_id, maintainer_latest_id) "
+                + "select a.id_rdomain, a.maintainer_id, a.id, a.id from {1} a join {2} m on m.id = a.maintainer_id and m.code = 'bulk-fixture'",
+                APPLICATION_LATEST, APPLICATION, MAINTAINER);
+    }
+
+    @Test
+    void streamingWithFetchSizeKeepsHeapBounded() {
+        final long heapGrowth = heapGrowthWhileStreaming(withFetchSize(500));
+
+        assertThat(heapGrowth).isLessThan(BOUNDED_HEAP_GROWTH);
+    }
+
+    @Test
+    void streamingWithoutFetchSizeBuffersWholeResult() {
+        final long heapGrowth = heapGrowthWhileStreaming(withFetchSize(0));
+
+        assertThat(heapGrowth).isGreaterThan(BOUNDED_HEAP_GROWTH);
+    }
+
+    private long heapGrowthWhileStreaming(DSLContext fetchingDslContext) {
+        final AppsService appsService = new PersistentAppsService(fetchingDslContext, applicationUrlService);
+        final AtomicInteger streamed = new AtomicInteger();
+        final AtomicLong heapGrowth = new AtomicLong();
+        final long baseline = usedHeapAfterGc();
+
+        final Meta meta = appsService.streamApplications(null, null, null, null, null, null, "Bulk fixture", null, IncludeTotal.FALSE, applicationHeader -> {
+            if (streamed.incrementAndGet() == FIXTURE_SIZE / 2) {
+                heapGrowth.set(usedHeapAfterGc() - baseline);
+            }
+        });
+
+        assertThat(meta.getResultSet().getCount()).isEqualTo(FIXTURE_SIZE);
+        return heapGrowth.get();
+    }
+
+    private DSLContext withFetchSize(int fetchSize) {
+        return DSL.using(dslContext.configuration().derive(new Settings().withFetchSize(fetchSize)));
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
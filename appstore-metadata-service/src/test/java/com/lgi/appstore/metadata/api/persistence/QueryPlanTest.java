@@ -0,0 +1,197 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.persistence;
+
+import com.lgi.appstore.metadata.api.maintainer.PersistentMaintainersService;
+import com.lgi.appstore.metadata.api.service.BaseServiceTest;
+import com.lgi.appstore.metadata.model.ApplicationType;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.MaintainerList;
+import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_LATEST;
+import static com.lgi.appstore.metadata.jooq.model.Tables.MAINTAINER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest extends BaseServiceTest {
+
+    private final List<String> executedQueries = new ArrayList<>();
+    private final DSLContext dslContext;
+    private final com.lgi.appstore.metadata.api.stb.AppsService stbAppsService;
+    private final com.lgi.appstore.metadata.api.maintainer.AppsService maintainerAppsService;
+    private final PersistentMaintainersService maintainersService;
+
+    @Autowired
+    public QueryPlanTest(DSLContext dslContext) {
+        this.dslContext = dslContext;
+        final DSLContext capturingDslContext = DSL.using(dslContext.configuration().derive(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+            @Override
+            public void executeStart(ExecuteContext ctx) {
+                if (ctx.query() != null) {
+                    executedQueries.add(ctx.dsl().renderInlined(ctx.query()));
+                }
+            }
+        })));
+        final var applicationUrlService = new ApplicationUrlService(new ApplicationUrlCreator("", ""), List.of(ApplicationType.HTML5));
+        stbAppsService = new com.lgi.appstore.metadata.api.stb.PersistentAppsService(capturingDslContext, applicationUrlService);
+        maintainerAppsService = new com.lgi.appstore.metadata.api.maintainer.PersistentAppsService(capturingDslContext, applicationUrlService,
+                event -> {});
+        maintainersService = new PersistentMaintainersService(capturingDslContext, event -> {});
+    }
+
+    @BeforeAll
+    void setUp() {
+        dslContext.execute("insert into {0} (code, name) select 'fixture-' || m, 'Fixture ' || m from generate_series(1, 20000) m", MAINTAINER);
+        dslContext.execute("insert into {0} (maintainer_id, id_rdomain, version, visible, name, description, preferred, type, category, platform, hardware, features, dependencies, localizations) "
+                + "select m.id, 'com.lgi.fixture' || a, '1.' || v || '.0', true, "
+                + "'name ' || md5(a::text), 'description ' || md5(v || '-' || a), v = 1, 'application/vnd.rdk-app.dac.native', 'application', '{}', '{}', '[]', '[]', '[]' from generate_series(1, 5000) a "
+                + "cross join generate_series(1, 20) v join {1} m on m.code = 'fixture-' || (a % 200 + 1)",
+                APPLICATION, MAINTAINER);
+        dslContext.execute("insert into {0} (id_rdomain, maintainer_id, stb_latest_id, maintainer_latest_id, preferred_id) "
+                + "select l.id_rdomain, l.maintainer_id, l.id, l.id, p.id from {1} l join {1} p on p.id_rdomain = l.id_rdomain and p.version = '1.1.0' "
+                + "where l.id_rdomain like 'com.lgi.fixture%' and l.version = '1.20.0'",
+                APPLICATION_LATEST, APPLICATION);
+        vacuumAnalyze();
+    }
+
+    @AfterAll
+    void tearDown() {
+        dslContext.deleteFrom(APPLICATION_LATEST).where(APPLICATION_LATEST.ID_RDOMAIN.like("com.lgi.fixture%")).execute();
+        dslContext.deleteFrom(APPLICATION).where(APPLICATION.ID_RDOMAIN.like("com.lgi.fixture%")).execute();
+        dslContext.deleteFrom(MAINTAINER).where(MAINTAINER.CODE.like("fixture-%")).execute();
+        vacuumAnalyze();
+    }
+
+    @BeforeEach
+    void clearExecutedQueries() {
+        executedQueries.clear();
+    }
+
+    @Test
+    void stbListingJoinsLatestPointers() {
+        stbAppsService.listApplications(null, null, null, null, null, null, null, 0, 10, null, null);
+
+        final List<String> plans = explainExecutedQueries();
+        assertThat(plans).hasSize(2);
+        assertThat(plans.get(0)).contains("application_pkey");
+        assertThat(plans.get(1)).contains("application_listing_idx", "application_latest_stb_latest_id_idx");
+    }
+
+    @Test
+    void stbListingByMaintainerNameUsesMaintainerNameIndex() {
+        stbAppsService.listApplications(null, null, null, null, null, null, "Fixture 1", 0, 10, null, null);
+
+        assertThat(explainExecutedQueries())
+                .hasSize(2)
+                .allSatisfy(plan -> assertThat(plan).contains("maintainer_name_idx"));
+    }
+
+    @Test
+    void latestVersionLookupUsesPrimaryKeys() {
+        stbAppsService.getApplicationMetadata("com.lgi.fixture1");
+
+        assertThat(explainExecutedQueries())
+                .singleElement()
+                .satisfies(plan -> assertThat(plan).contains("application_latest_pkey", "application_pkey"));
+    }
+
+    @Test
+    void maintainerListingUsesMaintainerCodeAndLatestPointers() {
+        maintainerAppsService.listApplications("fixture-1", null, null, null, null, null, null, 0, 10, null, null);
+
+        final List<String> plans = explainExecutedQueries();
+        assertThat(plans).hasSize(3);
+        assertThat(plans.get(0)).contains("maintainer_code_idx");
+        assertThat(plans.subList(1, 3)).allSatisfy(plan -> assertThat(plan).contains("application_latest_maintainer_id_idx", "application_pkey"));
+    }
+
+    @Test
+    void maintainerSearchUsesNamePatternIndex() {
+        final MaintainerList maintainers = maintainersService.searchMaintainers("FIXTURE 1999", 10, 0, null);
+
+        assertThat(maintainers.getMeta().getResultSet().getTotal()).isEqualTo(11);
+        assertThat(explainExecutedQueries())
+                .hasSize(2)
+                .allSatisfy(plan -> assertThat(plan).contains("maintainer_name_pattern_idx"));
+    }
+
+    @Test
+    void nameSearchUsesTrigramIndex() {
+        stbAppsService.listApplications("a0b923", null, "1.1.0", null, null, null, null, 0, 10, null, null);
+
+        assertThat(explainExecutedQueries())
+                .hasSize(2)
+                .allSatisfy(plan -> assertThat(plan).contains("application_name_trgm_idx"));
+    }
+
+    @Test
+    void descriptionSearchUsesTrigramIndex() {
+        stbAppsService.listApplications(null, "a0b923", null, null, null, null, null, 0, 10, null, null);
+
+        assertThat(explainExecutedQueries())
+                .hasSize(2)
+                .allSatisfy(plan -> assertThat(plan).contains("application_description_trgm_idx"));
+    }
+
+    @Test
+    void totalIsNotCountedWhenSkippedOrEstimated() {
+        final ResultSetMeta withoutTotal = stbAppsService.listApplications(null, null, null, null, null, null, null, 0, 10, null, IncludeTotal.FALSE)
+                .getMeta().getResultSet();
+        final ResultSetMeta withEstimatedTotal = stbAppsService.listApplications(null, null, null, null, null, null, null, 0, 10, null, IncludeTotal.ESTIMATE)
+                .getMeta().getResultSet();
+
+        assertThat(withoutTotal.getTotal()).isNull();
+        assertThat(withEstimatedTotal.getTotal()).isBetween(4000, 6000);
+        assertThat(executedQueries).noneMatch(sql -> sql.contains("count("));
+    }
+
+    private void vacuumAnalyze() {
+        dslContext.execute("vacuum analyze {0}, {1}, {2}", MAINTAINER, APPLICATION, APPLICATION_LATEST);
+    }
+
+    private List<String> explainExecutedQueries() {
+        return executedQueries.stream()
+                .map(sql -> dslContext.fetch("explain " + sql).stream()
+                        .map(planRow -> planRow.get(0, String.class))
+                        .collect(Collectors.joining("\n")))
+                .collect(Collectors.toList());
+    }
+}
@@ -18,8 +18,6 @@
  */
 package com.lgi.appstore.metadata.api.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lgi.appstore.metadata.api.persistence.PostgresContainerInitializer;
 import com.lgi.appstore.metadata.jooq.model.tables.records.ApplicationRecord;
 import com.lgi.appstore.metadata.jooq.model.tables.records.MaintainerRecord;
@@ -30,15 +28,16 @@ import com.lgi.appstore.metadata.model.Hardware;
 import com.lgi.appstore.metadata.model.Localization;
 import com.lgi.appstore.metadata.model.Platform;
 import org.jooq.DSLContext;
-import org.jooq.JSONB;
+import org.jooq.impl.DSL;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jooq.JooqTest;
 import org.springframework.test.context.ContextConfiguration;
 
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
 
+import static com.lgi.appstore.metadata.jooq.model.tables.ApplicationLatest.APPLICATION_LATEST;
 import static java.util.UUID.randomUUID;
 
 @JooqTest
@@ -65,8 +64,6 @@ public abstract class BaseServiceTest {
         return Integer.compare(v1SeparatedVersionParts.length, v2SeparatedVersionParts.length);
     };
 
-    protected ObjectMapper objectMapper = new ObjectMapper();
-
     @Autowired
     private DSLContext context;
 
@@ -75,7 +72,7 @@ public abstract class BaseServiceTest {
                                                               Hardware hardware,
                                                               Platform platform,
                                                               Dependency dependency,
-                                                              Feature feature) throws JsonProcessingException {
+                                                              Feature feature) {
         return createRandomApplicationRecord(maintainerRecord,
                 localization,
                 hardware,
@@ -88,8 +85,7 @@ public abstract class BaseServiceTest {
                 true);
     }
 
-    protected ApplicationRecord createRandomApplicationRecord(MaintainerRecord maintainerRecord, String applicationId, String version, boolean latest)
-            throws JsonProcessingException {
+    protected ApplicationRecord createRandomApplicationRecord(MaintainerRecord maintainerRecord, String applicationId, String version, boolean latest) {
         return createRandomApplicationRecord(maintainerRecord,
                 applicationId,
                 version,
@@ -97,8 +93,7 @@ public abstract class BaseServiceTest {
                 latest);
     }
 
-    protected ApplicationRecord createRandomApplicationRecord(MaintainerRecord maintainerRecord, String applicationId, String version, String type, boolean latest)
-            throws JsonProcessingException {
+    protected ApplicationRecord createRandomApplicationRecord(MaintainerRecord maintainerRecord, String applicationId, String version, String type, boolean latest) {
         return createRandomApplicationRecord(maintainerRecord,
                 createRandomLocalization(),
                 createRandomHardware(),
@@ -120,7 +115,7 @@ public abstract class BaseServiceTest {
                                                               String applicationId,
                                                               String version,
                                                               String type,
-                                                              boolean latest) throws JsonProcessingException {
+                                                              boolean latest) {
         final ApplicationRecord applicationRecord = new ApplicationRecord()
                 .setMaintainerId(maintainerRecord.getId())
                 .setCategory(Category.APPLICATION.getValue())
@@ -130,12 +125,11 @@ public abstract class BaseServiceTest {
                 .setVisible(true)
                 .setEncryption(false)
                 .setPreferred(false)
-                .setLatest(JSONB.valueOf("{\"stb\":" + latest + "}"))
-                .setLocalizations(JSONB.valueOf(objectMapper.writeValueAsString(Collections.singleton(localization))))
-                .setDependencies(JSONB.valueOf(objectMapper.writeValueAsString(Collections.singleton(dependency))))
-                .setFeatures(JSONB.valueOf(objectMapper.writeValueAsString(Collections.singleton(feature))))
-                .setHardware(JSONB.valueOf(objectMapper.writeValueAsString(hardware)))
-                .setPlatform(JSONB.valueOf(objectMapper.writeValueAsString(platform)))
+                .setLocalizations(List.of(localization))
+                .setDependencies(List.of(dependency))
+                .setFeatures(List.of(feature))
+                .setHardware(hardware)
+                .setPlatform(platform)
                 .setVersion(version)
                 .setName(randomUUID().toString())
                 .setType(type)
@@ -145,9 +139,31 @@ public abstract class BaseServiceTest {
         applicationRecord.attach(context.configuration());
         applicationRecord.insert();
 
+        context.insertInto(APPLICATION_LATEST,
+                        APPLICATION_LATEST.ID_RDOMAIN,
+                        APPLICATION_LATEST.MAINTAINER_ID,
+                        APPLICATION_LATEST.STB_LATEST_ID,
+                        APPLICATION_LATEST.MAINTAINER_LATEST_ID)
+                .values(applicationId, maintainerRecord.getId(), latest ? applicationRecord.getId() : null, applicationRecord.getId())
+                .onConflict(APPLICATION_LATEST.ID_RDOMAIN, APPLICATION_LATEST.MAINTAINER_ID)
+                .doUpdate()
+                .set(APPLICATION_LATEST.STB_LATEST_ID, latest ? DSL.val(applicationRecord.getId()) : APPLICATION_LATEST.STB_LATEST_ID)
+                .set(APPLICATION_LATEST.MAINTAINER_LATEST_ID, latest ? DSL.val(applicationRecord.getId()) : APPLICATION_LATEST.MAINTAINER_LATEST_ID)
+                .execute();
+
         return applicationRecord;
     }
 
+    protected void markPreferred(ApplicationRecord applicationRecord) {
+        applicationRecord.setPreferred(true).update();
+
+        context.update(APPLICATION_LATEST)
+                .set(APPLICATION_LATEST.PREFERRED_ID, applicationRecord.getId())
+                .where(APPLICATION_LATEST.ID_RDOMAIN.eq(applicationRecord.getIdRdomain()))
+                .and(APPLICATION_LATEST.MAINTAINER_ID.eq(applicationRecord.getMaintainerId()))
+                .execute();
+    }
+
     protected MaintainerRecord createRandomMaintainerRecord() {
         final MaintainerRecord maintainerRecord = new MaintainerRecord()
                 .setCode(randomUUID().toString())
@@ -0,0 +1,123 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb;
+
+import com.lgi.appstore.metadata.api.service.BaseServiceTest;
+import com.lgi.appstore.metadata.jooq.model.tables.records.MaintainerRecord;
+import com.lgi.appstore.metadata.model.ApplicationType;
+import com.lgi.appstore.metadata.model.ChangesToken;
+import com.lgi.appstore.metadata.model.StbApplicationChanges;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.util.ApplicationChangeHelper;
+import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import com.lgi.appstore.metadata.util.CatalogGenerationHelper;
+import com.lgi.appstore.metadata.util.QueryNameHelper;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_CHANGE;
+import static com.lgi.appstore.metadata.jooq.model.Tables.APPLICATION_LATEST;
+import static com.lgi.appstore.metadata.jooq.model.Tables.MAINTAINER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationChangesSnapshotTest extends BaseServiceTest {
+
+    private final DSLContext dslContext;
+    private final ApplicationUrlService applicationUrlService = new ApplicationUrlService(new ApplicationUrlCreator("", ""), List.of(ApplicationType.HTML5));
+    private final String applicationId = "com.lgi.snapshot." + UUID.randomUUID();
+    private MaintainerRecord maintainerRecord;
+
+    @Autowired
+    ApplicationChangesSnapshotTest(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    @AfterEach
+    void tearDown() {
+        dslContext.deleteFrom(APPLICATION_CHANGE).where(APPLICATION_CHANGE.ID_RDOMAIN.eq(applicationId)).execute();
+        dslContext.deleteFrom(APPLICATION_LATEST).where(APPLICATION_LATEST.ID_RDOMAIN.eq(applicationId)).execute();
+        dslContext.deleteFrom(APPLICATION).where(APPLICATION.ID_RDOMAIN.eq(applicationId)).execute();
+        if (maintainerRecord != null) {
+            dslContext.deleteFrom(MAINTAINER).where(MAINTAINER.ID.eq(maintainerRecord.getId())).execute();
+        }
+    }
+
+    @Test
+    void changesAreReadFromOneSnapshotWhenGenerationIsBumpedMeanwhile() {
+        // GIVEN
+        maintainerRecord = createRandomMaintainerRecord();
+        final ChangesToken since = ChangesToken.of(CatalogGenerationHelper.fetch(dslContext).getGeneration());
+        createRandomApplicationRecord(maintainerRecord, applicationId, "1.0.0", true);
+        recordChange();
+        final AtomicBoolean bumped = new AtomicBoolean();
+        final AppsService appsService = new PersistentAppsService(withListener(new DefaultExecuteListener() {
+            @Override
+            public void executeEnd(ExecuteContext ctx) {
+                if ("catalog.generation".equals(QueryNameHelper.queryName(ctx.configuration())) && bumped.compareAndSet(false, true)) {
+                    CompletableFuture.runAsync(() -> {
+                        createRandomApplicationRecord(maintainerRecord, applicationId, "2.0.0", true);
+                        recordChange();
+                    }).join();
+                }
+            }
+        }), applicationUrlService);
+
+        // WHEN
+        final StbApplicationChanges firstPage = appsService.listApplicationChanges(since);
+        final StbApplicationChanges secondPage = appsService.listApplicationChanges(ChangesToken.fromString(firstPage.getToken()));
+
+        // THEN
+        assertThat(bumped).isTrue();
+        assertThat(ChangesToken.fromString(firstPage.getToken()).getGeneration()).isEqualTo(since.getGeneration() + 1);
+        assertThat(firstPage.getAdded()).extracting(StbApplicationHeader::getId, StbApplicationHeader::getVersion)
+                .containsExactly(tuple(applicationId, "1.0.0"));
+        assertThat(ChangesToken.fromString(secondPage.getToken()).getGeneration()).isEqualTo(since.getGeneration() + 2);
+        assertThat(secondPage.getUpdated()).extracting(StbApplicationHeader::getId, StbApplicationHeader::getVersion)
+                .containsExactly(tuple(applicationId, "2.0.0"));
+    }
+
+    private void recordChange() {
+        dslContext.transaction(configuration -> {
+            final DSLContext localDslContext = DSL.using(configuration);
+            CatalogGenerationHelper.increment(localDslContext);
+            ApplicationChangeHelper.record(localDslContext, applicationId);
+        });
+    }
+
+    private DSLContext withListener(DefaultExecuteListener listener) {
+        return DSL.using(dslContext.configuration().derive(new DefaultExecuteListenerProvider(listener)));
+    }
+}
@@ -23,11 +23,14 @@ import com.lgi.appstore.metadata.jooq.model.tables.Application;
 import com.lgi.appstore.metadata.jooq.model.tables.records.ApplicationRecord;
 import com.lgi.appstore.metadata.jooq.model.tables.records.MaintainerRecord;
 import com.lgi.appstore.metadata.model.AppIdWithType;
+import com.lgi.appstore.metadata.model.AppIdWithVersion;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.ApplicationType;
 import com.lgi.appstore.metadata.model.Category;
 import com.lgi.appstore.metadata.model.Dependency;
 import com.lgi.appstore.metadata.model.Feature;
 import com.lgi.appstore.metadata.model.Hardware;
+import com.lgi.appstore.metadata.model.IncludeTotal;
 import com.lgi.appstore.metadata.model.Localization;
 import com.lgi.appstore.metadata.model.Maintainer;
 import com.lgi.appstore.metadata.model.Meta;
@@ -41,7 +44,7 @@ import com.lgi.appstore.metadata.model.StbSingleApplicationHeader;
 import com.lgi.appstore.metadata.model.StbVersion;
 import com.lgi.appstore.metadata.util.ApplicationUrlCreator;
 import com.lgi.appstore.metadata.util.ApplicationUrlService;
-import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.DSLContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -50,8 +53,10 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -68,7 +73,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
     @Autowired
     public PersistentAppsServiceTest(DSLContext dslContext) {
         final var applicationUrlService = new ApplicationUrlService(urlCreator, List.of(ApplicationType.HTML5));
-        appsService = new PersistentAppsService(dslContext, new JsonProcessorHelper(objectMapper), applicationUrlService);
+        appsService = new PersistentAppsService(dslContext, applicationUrlService);
     }
 
     @Test
@@ -124,7 +129,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
                 Category.fromValue(applicationRecord.getCategory()),
                 maintainerRecord.getName(),
                 offset,
-                limit);
+                limit, null, null);
 
         assertThat(stbApplicationsList).isNotNull();
         final Meta meta = stbApplicationsList.getMeta();
@@ -188,6 +193,54 @@ class PersistentAppsServiceTest extends BaseServiceTest {
                 .containsExactlyElementsOf(orderedVersions);
     }
 
+    @Test
+    void batchApplicationMetadataMatchesSingleLookups() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        createRandomApplicationRecord(maintainerRecord, "TestApplication1", "2.0.0", true);
+        createRandomApplicationRecord(maintainerRecord, "TestApplication1", "1.0.0", false);
+        createRandomApplicationRecord(maintainerRecord, "TestApplication2", "1.0.0", true);
+
+        final Map<Pair<String, String>, StbApplicationMetadata> applicationsMetadata = appsService.getApplicationsMetadata(List.of(
+                Pair.of("TestApplication1", AppIdWithVersion.VERSION_LATEST),
+                Pair.of("TestApplication1", "1.0.0"),
+                Pair.of("TestApplication2", AppIdWithVersion.VERSION_LATEST),
+                Pair.of("TestApplication2", "3.0.0"),
+                Pair.of("NonExistingApplication", AppIdWithVersion.VERSION_LATEST)));
+
+        assertThat(applicationsMetadata).containsOnlyKeys(
+                Pair.of("TestApplication1", AppIdWithVersion.VERSION_LATEST),
+                Pair.of("TestApplication1", "1.0.0"),
+                Pair.of("TestApplication2", AppIdWithVersion.VERSION_LATEST));
+        assertThat(applicationsMetadata.get(Pair.of("TestApplication1", AppIdWithVersion.VERSION_LATEST)))
+                .usingRecursiveComparison().isEqualTo(appsService.getApplicationMetadata("TestApplication1").orElseThrow());
+        assertThat(applicationsMetadata.get(Pair.of("TestApplication1", "1.0.0")))
+                .usingRecursiveComparison().isEqualTo(appsService.getApplicationMetadata("TestApplication1", "1.0.0").orElseThrow());
+        assertThat(applicationsMetadata.get(Pair.of("TestApplication2", AppIdWithVersion.VERSION_LATEST)))
+                .usingRecursiveComparison().isEqualTo(appsService.getApplicationMetadata("TestApplication2").orElseThrow());
+    }
+
+    @Test
+    void platformFilterValuesAreNotInterpretedAsSql() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final Platform platform = new Platform().architecture("arm'64").variant("v7").os("linux");
+        final ApplicationRecord applicationRecord = createRandomApplicationRecord(maintainerRecord,
+                createRandomLocalization(),
+                createRandomHardware(),
+                platform,
+                createRandomDependency(),
+                createRandomFeature());
+        createRandomApplicationRecord(maintainerRecord, createRandomLocalization(), createRandomHardware(), createRandomPlatform(),
+                createRandomDependency(), createRandomFeature());
+
+        final List<StbApplicationHeader> matchingApplications = appsService.listApplications(null, null, null, null,
+                new Platform().architecture("arm'64"), null, null, null, null, null, null).getApplications();
+        final List<StbApplicationHeader> injectedApplications = appsService.listApplications(null, null, null, null,
+                new Platform().architecture("x' or '1' = '1"), null, null, null, null, null, null).getApplications();
+
+        assertThat(matchingApplications).extracting(StbApplicationHeader::getId).containsExactly(applicationRecord.getIdRdomain());
+        assertThat(injectedApplications).isEmpty();
+    }
+
     @Test
     void omittingLimitParamReturnsAllApplications() throws Exception {
         final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
@@ -197,7 +250,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         createRandomApplicationRecord(maintainerRecord, applicationId1, "1.0.0", true);
         createRandomApplicationRecord(maintainerRecord, applicationId2, "1.0.0", true);
 
-        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, null);
+        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, null, null, null);
 
         assertThat(stbApplicationsList).isNotNull();
         final Meta meta = stbApplicationsList.getMeta();
@@ -220,7 +273,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         createRandomApplicationRecord(maintainerRecord, applicationId1, "1.0.0", true);
         createRandomApplicationRecord(maintainerRecord, applicationId2, "1.0.0", true);
 
-        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, 10);
+        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, 10, null, null);
 
         assertThat(stbApplicationsList).isNotNull();
         final Meta meta = stbApplicationsList.getMeta();
@@ -243,7 +296,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         createRandomApplicationRecord(maintainerRecord, applicationId1, "1.0.0", true);
         createRandomApplicationRecord(maintainerRecord, applicationId2, "1.0.0", true);
 
-        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, 1);
+        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, 1, null, null);
 
         assertThat(stbApplicationsList).isNotNull();
         final Meta meta = stbApplicationsList.getMeta();
@@ -266,7 +319,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         createRandomApplicationRecord(maintainerRecord, applicationId1, "1.0.0", true);
         createRandomApplicationRecord(maintainerRecord, applicationId2, "1.0.0", true);
 
-        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, 2);
+        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, 2, null, null);
 
         assertThat(stbApplicationsList).isNotNull();
         final Meta meta = stbApplicationsList.getMeta();
@@ -289,7 +342,7 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         createRandomApplicationRecord(maintainerRecord, applicationId1, "1.0.0", true);
         createRandomApplicationRecord(maintainerRecord, applicationId2, "1.0.0", true);
 
-        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, 0);
+        final StbApplicationsList stbApplicationsList = appsService.listApplications(null, null, null, null, null, null, null, null, 0, null, null);
 
         assertThat(stbApplicationsList).isNotNull();
         final Meta meta = stbApplicationsList.getMeta();
@@ -303,6 +356,65 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         assertThat(applications).isNotNull().hasSize(2);
     }
 
+    @Test
+    void preferredVersionIsListedOnceAndPagesAreFull() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String applicationId1 = "TestApplication1";
+        final String applicationId2 = "TestApplication2";
+        createRandomApplicationRecord(maintainerRecord, applicationId1, "2.0.0", true);
+        markPreferred(createRandomApplicationRecord(maintainerRecord, applicationId1, "1.0.0", false));
+        createRandomApplicationRecord(maintainerRecord, applicationId2, "1.0.0", true);
+
+        final StbApplicationsList firstPage = appsService.listApplications(null, null, null, null, null, null, null, 0, 1, null, null);
+        final StbApplicationsList secondPage = appsService.listApplications(null, null, null, null, null, null, null, 1, 1, null, null);
+
+        assertThat(firstPage.getMeta().getResultSet().getCount()).isEqualTo(1);
+        assertThat(firstPage.getMeta().getResultSet().getTotal()).isEqualTo(2);
+        assertThat(firstPage.getApplications()).hasSize(1);
+        assertThat(firstPage.getApplications().get(0).getId()).isEqualTo(applicationId1);
+        assertThat(firstPage.getApplications().get(0).getVersion()).isEqualTo("1.0.0");
+        assertThat(secondPage.getMeta().getResultSet().getTotal()).isEqualTo(2);
+        assertThat(secondPage.getApplications()).hasSize(1);
+        assertThat(secondPage.getApplications().get(0).getId()).isEqualTo(applicationId2);
+    }
+
+    @Test
+    void cursorWalksThroughAllApplications() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        createRandomApplicationRecord(maintainerRecord, "TestApplication1", "2.0.0", true);
+        createRandomApplicationRecord(maintainerRecord, "TestApplication1", "1.0.0", false);
+        createRandomApplicationRecord(maintainerRecord, "TestApplication2", "1.0.0", true);
+        createRandomApplicationRecord(maintainerRecord, "TestApplication3", "1.0.0", true);
+
+        final StbApplicationsList firstPage = appsService.listApplications(null, null, null, null, null, null, null, null, 2, null, null);
+        final String nextCursor = firstPage.getMeta().getResultSet().getNextCursor();
+        final StbApplicationsList secondPage = appsService.listApplications(null, null, null, null, null, null, null, 5, 2, ApplicationCursor.fromString(nextCursor), null);
+
+        assertThat(firstPage.getApplications()).extracting(StbApplicationHeader::getId).containsExactly("TestApplication1", "TestApplication2");
+        assertThat(nextCursor).isNotNull();
+        assertThat(secondPage.getApplications()).extracting(StbApplicationHeader::getId).containsExactly("TestApplication3");
+        assertThat(secondPage.getMeta().getResultSet().getTotal()).isEqualTo(3);
+        assertThat(secondPage.getMeta().getResultSet().getOffset()).isZero();
+        assertThat(secondPage.getMeta().getResultSet().getNextCursor()).isNull();
+    }
+
+    @Test
+    void streamedApplicationsMatchUnlimitedList() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        createRandomApplicationRecord(maintainerRecord, "TestApplication1", "2.0.0", true);
+        createRandomApplicationRecord(maintainerRecord, "TestApplication1", "1.0.0", false);
+        createRandomApplicationRecord(maintainerRecord, "TestApplication2", "1.0.0", true);
+        createRandomApplicationRecord(maintainerRecord, "TestApplication3", "1.0.0", true);
+        final List<StbApplicationHeader> streamedApplications = new ArrayList<>();
+
+        final StbApplicationsList applicationsList = appsService.listApplications(null, null, null, null, null, null, null, 1, null, null, IncludeTotal.EXACT);
+        final Meta meta = appsService.streamApplications(null, null, null, null, null, null, null, 1, IncludeTotal.EXACT, streamedApplications::add);
+
+        assertThat(streamedApplications).isEqualTo(applicationsList.getApplications());
+        assertThat(streamedApplications).extracting(StbApplicationHeader::getId).containsExactly("TestApplication2", "TestApplication3");
+        assertThat(meta).isEqualTo(applicationsList.getMeta());
+    }
+
     @ParameterizedTest
     @CsvSource({"application/vnd.rdk-app.html5,HTML5", "application/vnd.rdk-app.dac.native,DAC_NATIVE"})
     void applicationTypeShouldBeReturnedBasedOnApplicationId(String type, ApplicationType expectedType) throws Exception {
@@ -311,10 +423,12 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         final var randomMaintainerRecord = createRandomMaintainerRecord();
         final var applicationId = UUID.randomUUID().toString();
         final var latestVersion = "500";
-        final var randomApplicationRecord = createRandomApplicationRecord(randomMaintainerRecord, applicationId, latestVersion, type, false);
+        final var randomApplicationRecord = createRandomApplicationRecord(randomMaintainerRecord, applicationId, latestVersion, type, true);
 
         // WHEN
-        final var applicationType = appsService.getApplicationType(randomApplicationRecord.getIdRdomain()).orElse(null);
+        final var applicationType = appsService.getApplicationMetadata(randomApplicationRecord.getIdRdomain())
+                .map(StbApplicationMetadata::getAppIdWithType)
+                .orElse(null);
 
         // THEN
         assertThat(applicationType).isNotNull().extracting(AppIdWithType::getApplicationType).isEqualTo(expectedType.getValue());
@@ -329,10 +443,11 @@ class PersistentAppsServiceTest extends BaseServiceTest {
         final var randomMaintainerRecord = createRandomMaintainerRecord();
         final var applicationId = UUID.randomUUID().toString();
         final var latestVersion = "500";
-        final var randomApplicationRecord = createRandomApplicationRecord(randomMaintainerRecord, applicationId, latestVersion, type, false);
+        final var randomApplicationRecord = createRandomApplicationRecord(randomMaintainerRecord, applicationId, latestVersion, type, true);
 
         // WHEN
-        final var applicationType = appsService.getApplicationType(randomApplicationRecord.getIdRdomain());
+        final var applicationType = appsService.getApplicationMetadata(randomApplicationRecord.getIdRdomain())
+                .map(StbApplicationMetadata::getAppIdWithType);
 
         // THEN
         assertThat(applicationType).isPresent();
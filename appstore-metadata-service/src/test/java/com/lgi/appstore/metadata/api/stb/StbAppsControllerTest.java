@@ -19,25 +19,41 @@
 package com.lgi.appstore.metadata.api.stb;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lgi.appstore.metadata.api.catalog.CatalogGeneration;
+import com.lgi.appstore.metadata.api.catalog.CatalogGenerationService;
+import com.lgi.appstore.metadata.api.converter.StringToApplicationCursorConverter;
 import com.lgi.appstore.metadata.api.converter.StringToApplicationTypeConverter;
 import com.lgi.appstore.metadata.api.converter.StringToCategoryConverter;
+import com.lgi.appstore.metadata.api.converter.StringToChangesTokenConverter;
+import com.lgi.appstore.metadata.api.converter.StringToIncludeTotalConverter;
 import com.lgi.appstore.metadata.api.converter.StringToPlatformConverter;
 import com.lgi.appstore.metadata.api.error.GlobalExceptionHandler;
+import com.lgi.appstore.metadata.api.stb.catalog.StbCatalogResponseCache;
 import com.lgi.appstore.metadata.api.stb.input.validator.PlatformAndVersionOptionalForWebValidator;
 import com.lgi.appstore.metadata.model.AppIdWithType;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
 import com.lgi.appstore.metadata.model.ApplicationType;
 import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.ChangesToken;
 import com.lgi.appstore.metadata.model.Hardware;
+import com.lgi.appstore.metadata.model.IncludeTotal;
 import com.lgi.appstore.metadata.model.Localization;
 import com.lgi.appstore.metadata.model.Maintainer;
 import com.lgi.appstore.metadata.model.Meta;
 import com.lgi.appstore.metadata.model.Platform;
 import com.lgi.appstore.metadata.model.Requirements;
 import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.model.StbApplicationChanges;
 import com.lgi.appstore.metadata.model.StbApplicationDetails;
+import com.lgi.appstore.metadata.model.StbApplicationDetailsBatch;
+import com.lgi.appstore.metadata.model.StbApplicationDetailsBatchRequest;
 import com.lgi.appstore.metadata.model.StbApplicationHeader;
 import com.lgi.appstore.metadata.model.StbApplicationsList;
 import com.lgi.appstore.metadata.model.StbSingleApplicationHeader;
+import com.lgi.appstore.metadata.util.ApplicationUrlService;
+import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,15 +63,24 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.json.JacksonTester;
 import org.springframework.format.support.FormattingConversionService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -63,7 +88,11 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @ExtendWith(MockitoExtension.class)
 class StbAppsControllerTest {
@@ -71,6 +100,10 @@ class StbAppsControllerTest {
 
     private final AppsService appsService = Mockito.mock(AppsService.class);
 
+    private final ApplicationUrlService applicationUrlService = Mockito.mock(ApplicationUrlService.class);
+
+    private final CatalogGenerationService catalogGenerationService = Mockito.mock(CatalogGenerationService.class);
+
     @Spy
     private final PlatformAndVersionOptionalForWebValidator platformAndVersionOptionalForWebValidator = new PlatformAndVersionOptionalForWebValidator(WEB_APPLICATIONS);
 
@@ -81,6 +114,9 @@ class StbAppsControllerTest {
 
     private JacksonTester<StbApplicationsList> jsonApplicationsList;
     private JacksonTester<StbApplicationDetails> jsonApplicationDetails;
+    private JacksonTester<StbApplicationChanges> jsonApplicationChanges;
+    private JacksonTester<StbApplicationDetailsBatchRequest> jsonApplicationDetailsBatchRequest;
+    private JacksonTester<StbApplicationDetailsBatch> jsonApplicationDetailsBatch;
 
     @BeforeEach
     public void setup() {
@@ -89,6 +125,9 @@ class StbAppsControllerTest {
         conversionService.addConverter(new StringToCategoryConverter());
         conversionService.addConverter(new StringToPlatformConverter());
         conversionService.addConverter(new StringToApplicationTypeConverter());
+        conversionService.addConverter(new StringToApplicationCursorConverter());
+        conversionService.addConverter(new StringToIncludeTotalConverter());
+        conversionService.addConverter(new StringToChangesTokenConverter());
 
         mvc = MockMvcBuilders.standaloneSetup(stbAppsController)
                 .addFilter(((request, response, chain) -> {
@@ -99,10 +138,13 @@ class StbAppsControllerTest {
                 .setConversionService(conversionService)
                 .build();
 
-        doReturn(Optional.of(new AppIdWithType("native-app", ApplicationType.DAC_NATIVE.getValue())))
-                .when(appsService).getApplicationType(Mockito.anyString());
+        doReturn(Optional.of(youIApplicationMetadata(ApplicationType.DAC_NATIVE.getValue())))
+                .when(appsService).getApplicationMetadata(Mockito.anyString());
+        doReturn(CATALOG_GENERATION).when(catalogGenerationService).currentGeneration();
     }
 
+    private static final CatalogGeneration CATALOG_GENERATION = new CatalogGeneration(42L, Instant.parse("2026-01-01T10:15:30Z"));
+
     private static final StbApplicationHeader FLUTTER_APPLICATION_HEADER = new StbApplicationHeader()
             .id("com.libertyglobal.app.flutter")
             .name("flutter")
@@ -227,9 +269,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsWhenThereAreSomePresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, null, null, null, null, null, null, null))
+        given(appsService.listApplications(null, null, null, null, null, null, null, null, null, null, null))
                 .willReturn(NON_EMPTY_APPLICATIONS_LIST);
 
         // when
@@ -246,9 +288,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsWhenThereAreNoPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, null, null, null, null, null, null, null))
+        given(appsService.listApplications(null, null, null, null, null, null, null, null, null, null, null))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
 
         // when
@@ -265,9 +307,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByNameWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications("flutter", null, null, null, null, null, null, null, null))
+        given(appsService.listApplications("flutter", null, null, null, null, null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
 
@@ -285,9 +327,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByDescriptionWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, "Container contains both Flutter", null, null, null, null, null, null, null))
+        given(appsService.listApplications(null, "Container contains both Flutter", null, null, null, null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -304,9 +346,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByVersionWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, "0.0.1", null, null, null, null, null, null))
+        given(appsService.listApplications(null, null, "0.0.1", null, null, null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -323,9 +365,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByTypeWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, null, "application/vnd.rdk-app.dac.native", null, null, null, null, null))
+        given(appsService.listApplications(null, null, null, "application/vnd.rdk-app.dac.native", null, null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -342,9 +384,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByPlatformWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, null, null, new StringToPlatformConverter().convert("arm:v7:linux"), null, null, null, null))
+        given(appsService.listApplications(null, null, null, null, new StringToPlatformConverter().convert("arm:v7:linux"), null, null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -375,9 +417,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByCategoryWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, null, null, null, Category.fromValue("application"), null, null, null))
+        given(appsService.listApplications(null, null, null, null, null, Category.fromValue("application"), null, null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -408,9 +450,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByMaintainerNameWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, null, null, null, null, "Liberty Global", null, null))
+        given(appsService.listApplications(null, null, null, null, null, null, "Liberty Global", null, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -427,9 +469,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByOffsetWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, null, null, null, null, null, 1, null))
+        given(appsService.listApplications(null, null, null, null, null, null, null, 1, null, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -446,9 +488,9 @@ class StbAppsControllerTest {
     @Test
     void canListAppsByLimitWhenThereAreSomeAppsPresent() throws Exception {
         // given
-        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
                 .willReturn(EMPTY_APPLICATIONS_LIST);
-        given(appsService.listApplications(null, null, null, null, null, null, null, null, 1))
+        given(appsService.listApplications(null, null, null, null, null, null, null, null, 1, null, null))
                 .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
 
         // when
@@ -462,15 +504,279 @@ class StbAppsControllerTest {
         assertThat(response.getContentAsString()).isEqualTo(jsonApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
     }
 
+    @Test
+    void canListAppsByCursorWhenThereAreSomeAppsPresent() throws Exception {
+        // given
+        final ApplicationCursor cursor = ApplicationCursor.of("com.lgi.app", "1.2.3");
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(EMPTY_APPLICATIONS_LIST);
+        given(appsService.listApplications(null, null, null, null, null, null, null, null, null, cursor, null))
+                .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps?cursor=" + cursor).accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo(jsonApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
+    }
+
+    @Test
+    void canListAppsWithoutTotal() throws Exception {
+        // given
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(EMPTY_APPLICATIONS_LIST);
+        given(appsService.listApplications(null, null, null, null, null, null, null, null, null, null, IncludeTotal.FALSE))
+                .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps?includeTotal=false").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo(jsonApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
+    }
+
+    @Test
+    void listAppsReturnsCatalogGenerationValidators() throws Exception {
+        // given
+        given(appsService.listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"42\"");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(CATALOG_GENERATION.getModifiedAt().toEpochMilli());
+    }
+
+    @Test
+    void listAppsReturnsNotModifiedForCurrentCatalogGeneration() throws Exception {
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps").header(HttpHeaders.IF_NONE_MATCH, "\"42\"").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getContentAsString()).isEmpty();
+        verifyNoInteractions(appsService);
+    }
+
+    @Test
+    void listAppsServesPreSerializedResponse() throws Exception {
+        // given
+        ReflectionTestUtils.setField(stbAppsController, "catalogResponseCache", Optional.of(new StbCatalogResponseCache(
+                new JsonProcessorHelper(new ObjectMapper()), new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Set.of(10))));
+        given(appsService.listApplications(null, null, null, null, null, Category.APPLICATION, null, null, 10, null, null))
+                .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
+
+        // when
+        MockHttpServletResponse plainResponse = mvc
+                .perform(get("/apps?category=application&limit=10").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+        MockHttpServletResponse gzippedResponse = mvc
+                .perform(get("/apps?category=application&limit=10").header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(plainResponse.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(plainResponse.getContentAsString()).isEqualTo(jsonApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
+        assertThat(plainResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzippedResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(plainResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("\"42\"");
+        assertThat(gzippedResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("\"42-gzip\"");
+        assertThat(gzippedResponse.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(gzippedResponse.getContentAsByteArray()))) {
+            assertThat(gzipInputStream.readAllBytes()).isEqualTo(plainResponse.getContentAsByteArray());
+        }
+        verify(appsService).listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void preSerializedResponseIsNotModifiedOnlyForMatchingEncoding() throws Exception {
+        // given
+        ReflectionTestUtils.setField(stbAppsController, "catalogResponseCache", Optional.of(new StbCatalogResponseCache(
+                new JsonProcessorHelper(new ObjectMapper()), new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Set.of(10))));
+        given(appsService.listApplications(null, null, null, null, null, Category.APPLICATION, null, null, 10, null, null))
+                .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
+
+        // when
+        MockHttpServletResponse gzippedResponse = mvc
+                .perform(get("/apps?category=application&limit=10").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"42-gzip\"").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+        MockHttpServletResponse plainResponse = mvc
+                .perform(get("/apps?category=application&limit=10")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"42-gzip\"").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(gzippedResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(gzippedResponse.getContentAsByteArray()).isEmpty();
+        assertThat(plainResponse.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(plainResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plainResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("\"42\"");
+        assertThat(plainResponse.getContentAsString()).isEqualTo(jsonApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
+    }
+
+    @Test
+    void listAppsStreamsUnlimitedList() throws Exception {
+        // given
+        ReflectionTestUtils.setField(stbAppsController, "streamingEnabled", true);
+        ReflectionTestUtils.setField(stbAppsController, "objectMapper", new ObjectMapper());
+        given(appsService.streamApplications(eq(null), eq(null), eq(null), eq(null), eq(null), eq(Category.APPLICATION), eq(null), eq(null), eq(null), any()))
+                .willAnswer(invocation -> {
+                    final Consumer<StbApplicationHeader> applicationConsumer = invocation.getArgument(9);
+                    FLUTTER_ONLY_APPLICATIONS_LIST.getApplications().forEach(applicationConsumer);
+                    return FLUTTER_ONLY_APPLICATIONS_LIST.getMeta();
+                });
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps?category=application").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"42\"");
+        assertThat(response.getContentAsString()).isEqualTo(jsonApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
+        verify(appsService, never()).listApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void listAppsWithLimitIsNotStreamed() throws Exception {
+        // given
+        ReflectionTestUtils.setField(stbAppsController, "streamingEnabled", true);
+        given(appsService.listApplications(null, null, null, null, null, Category.APPLICATION, null, null, 10, null, null))
+                .willReturn(FLUTTER_ONLY_APPLICATIONS_LIST);
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps?category=application&limit=10").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo(jsonApplicationsList.write(FLUTTER_ONLY_APPLICATIONS_LIST).getJson());
+        verify(appsService, never()).streamApplications(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void listAppChangesReturnsChangesSinceToken() throws Exception {
+        // given
+        final StbApplicationChanges applicationChanges = new StbApplicationChanges()
+                .added(List.of(FLUTTER_APPLICATION_HEADER))
+                .updated(List.of())
+                .removed(List.of("com.lgi.removed"))
+                .token(ChangesToken.of(42L).toString());
+        given(appsService.listApplicationChanges(ChangesToken.of(40L))).willReturn(applicationChanges);
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps/changes").param("since", ChangesToken.of(40L).toString()).accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"42\"");
+        assertThat(response.getContentAsString()).isEqualTo(jsonApplicationChanges.write(applicationChanges).getJson());
+    }
+
+    @Test
+    void returnsBadRequestForInvalidChangesToken() throws Exception {
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps/changes?since=not-a-token").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        verifyNoInteractions(appsService);
+    }
+
+    @Test
+    void returnsBadRequestForInvalidCursor() throws Exception {
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps?cursor=not-a-cursor").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void canGetDetailsOfManyApplicationsInOneRequest() throws Exception {
+        // given
+        given(appsService.getApplicationsMetadata(Set.of(Pair.of("com.libertyglobal.app.youi", "1.2.3"), Pair.of("nonExistingApp", "latest"))))
+                .willReturn(Map.of(Pair.of("com.libertyglobal.app.youi", "1.2.3"), youIApplicationMetadata(ApplicationType.DAC_NATIVE.getValue())));
+        final StbApplicationDetailsBatchRequest batchRequest = new StbApplicationDetailsBatchRequest()
+                .applications(List.of("nonExistingApp", "com.libertyglobal.app.youi:1.2.3", "com.libertyglobal.app.youi:all"))
+                .platformName("p1")
+                .firmwareVer("f1");
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(post("/apps/details:batch").contentType(MediaType.APPLICATION_JSON).content(jsonApplicationDetailsBatchRequest.write(batchRequest).getJson()))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).isEqualTo(jsonApplicationDetailsBatch.write(new StbApplicationDetailsBatch()
+                .applications(List.of(YOU_I_APPLICATION_DETAILS))
+                .notFound(List.of("nonExistingApp", "com.libertyglobal.app.youi:all"))).getJson());
+        verify(appsService, never()).getApplicationMetadata(anyString());
+        verify(applicationUrlService).createApplicationUrlFromApplicationRecord(new ApplicationUrlService.ApplicationUrlParams(
+                ApplicationType.DAC_NATIVE.getValue(), "p1", "f1", "com.libertyglobal.app.youi", "1.2.3", null));
+    }
+
+    @Test
+    void returnsBadRequestForMalformedApplicationIdInBatch() throws Exception {
+        // given
+        final StbApplicationDetailsBatchRequest batchRequest = new StbApplicationDetailsBatchRequest()
+                .applications(List.of("com.libertyglobal.app.youi:1.2.3", "com.libertyglobal.app.youi:"));
+
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(post("/apps/details:batch").contentType(MediaType.APPLICATION_JSON).content(jsonApplicationDetailsBatchRequest.write(batchRequest).getJson()))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).isEqualTo("{\"message\":\"Invalid application id 'com.libertyglobal.app.youi:': No version provided\"}");
+        verifyNoInteractions(appsService);
+    }
+
     @Test
     void canGetDetailsByJustApplicationIdOfAnExistingApplication() throws Exception {
         // given
         final String platformName = UUID.randomUUID().toString();
         final String firmwareVer = UUID.randomUUID().toString();
-        given(appsService.getApplicationDetails(anyString(), anyString(), anyString()))
-                .willReturn(Optional.empty());
-        given(appsService.getApplicationDetails("com.libertyglobal.app.youi", platformName, firmwareVer))
-                .willReturn(Optional.of(YOU_I_APPLICATION_DETAILS));
 
         // when
         MockHttpServletResponse response = mvc
@@ -481,6 +787,37 @@ class StbAppsControllerTest {
         // then
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
         assertThat(response.getContentAsString()).isEqualTo(jsonApplicationDetails.write(YOU_I_APPLICATION_DETAILS).getJson());
+        verify(appsService).getApplicationMetadata("com.libertyglobal.app.youi");
+        verify(applicationUrlService).createApplicationUrlFromApplicationRecord(new ApplicationUrlService.ApplicationUrlParams(
+                ApplicationType.DAC_NATIVE.getValue(), platformName, firmwareVer, "com.libertyglobal.app.youi", "1.2.3", null));
+    }
+
+    @Test
+    void getDetailsReturnsNotModifiedForCurrentCatalogGeneration() throws Exception {
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps/com.libertyglobal.app.youi?platformName=p1&firmwareVer=f1").header(HttpHeaders.IF_NONE_MATCH, "\"42\""))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verify(appsService, never()).getApplicationMetadata(anyString());
+        verifyNoInteractions(applicationUrlService);
+    }
+
+    @Test
+    void getDetailsReturnsFullResponseForOutdatedCatalogGeneration() throws Exception {
+        // when
+        MockHttpServletResponse response = mvc
+                .perform(get("/apps/com.libertyglobal.app.youi?platformName=p1&firmwareVer=f1").header(HttpHeaders.IF_NONE_MATCH, "\"41\""))
+                .andReturn()
+                .getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"42\"");
+        verify(appsService).getApplicationMetadata("com.libertyglobal.app.youi");
     }
 
     @Test
@@ -488,10 +825,10 @@ class StbAppsControllerTest {
         // given
         final String platformName = UUID.randomUUID().toString();
         final String firmwareVer = UUID.randomUUID().toString();
-        given(appsService.getApplicationDetails(anyString(), anyString(), anyString(), anyString()))
+        given(appsService.getApplicationMetadata(anyString(), anyString()))
                 .willReturn(Optional.empty());
-        given(appsService.getApplicationDetails("com.libertyglobal.app.youi", "1.2.3", platformName, firmwareVer))
-                .willReturn(Optional.of(YOU_I_APPLICATION_DETAILS));
+        given(appsService.getApplicationMetadata("com.libertyglobal.app.youi", "1.2.3"))
+                .willReturn(Optional.of(youIApplicationMetadata(ApplicationType.DAC_NATIVE.getValue())));
 
         // when
         MockHttpServletResponse response = mvc
@@ -510,10 +847,10 @@ class StbAppsControllerTest {
         // given
         final String platformName = UUID.randomUUID().toString();
         final String firmwareVer = UUID.randomUUID().toString();
-        given(appsService.getApplicationDetails(anyString(), anyString(), anyString()))
+        given(appsService.getApplicationMetadata(anyString()))
                 .willReturn(Optional.empty());
-        given(appsService.getApplicationDetails("com.libertyglobal.app.youi", platformName, firmwareVer))
-                .willReturn(Optional.of(YOU_I_APPLICATION_DETAILS));
+        given(appsService.getApplicationMetadata("com.libertyglobal.app.youi"))
+                .willReturn(Optional.of(youIApplicationMetadata(ApplicationType.DAC_NATIVE.getValue())));
 
         // when
         MockHttpServletResponse response = mvc
@@ -530,6 +867,7 @@ class StbAppsControllerTest {
     @Test
     void cannotGetDetailsOfANonExistingApplication() throws Exception {
         // given
+        doReturn(Optional.empty()).when(appsService).getApplicationMetadata("nonExistingApp");
 
         // when
         MockHttpServletResponse response = mvc
@@ -606,10 +944,8 @@ class StbAppsControllerTest {
     @Test
     void canListWebApplication() throws Exception {
         // GIVEN
-        doReturn(Optional.of(new AppIdWithType("web-app", ApplicationType.HTML5.toString())))
-                .when(appsService).getApplicationType(Mockito.anyString());
-        doReturn(Optional.of(YOU_I_APPLICATION_DETAILS))
-                .when(appsService).getApplicationDetails(eq("com.libertyglobal.app.youi"), Mockito.any(), Mockito.any());
+        doReturn(Optional.of(youIApplicationMetadata(ApplicationType.HTML5.toString())))
+                .when(appsService).getApplicationMetadata(eq("com.libertyglobal.app.youi"));
 
         // WHEN
         MockHttpServletResponse response = mvc
@@ -624,9 +960,7 @@ class StbAppsControllerTest {
     @Test
     void cannotListApplicationWhenTypeIsUnsupported() throws Exception {
         // GIVEN
-        doReturn(Optional.of(new AppIdWithType("web-app", null))).when(appsService).getApplicationType(Mockito.anyString());
-        doReturn(Optional.of(YOU_I_APPLICATION_DETAILS))
-                .when(appsService).getApplicationDetails(eq("com.libertyglobal.app.youi"), Mockito.any(), Mockito.any());
+        doReturn(Optional.of(youIApplicationMetadata(null))).when(appsService).getApplicationMetadata(Mockito.anyString());
 
         // WHEN
         MockHttpServletResponse response = mvc
@@ -639,4 +973,7 @@ class StbAppsControllerTest {
         assertThat(response.getContentAsString()).isEqualTo("{\"message\":\"Unsupported application type\"}");
     }
 
-}
\ No newline at end of file
+    private static StbApplicationMetadata youIApplicationMetadata(String applicationType) {
+        return new StbApplicationMetadata(new AppIdWithType("com.libertyglobal.app.youi", applicationType), YOU_I_APPLICATION_DETAILS, null);
+    }
+}
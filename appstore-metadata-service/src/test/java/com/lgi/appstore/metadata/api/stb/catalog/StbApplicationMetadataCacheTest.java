@@ -0,0 +1,139 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
+import com.lgi.appstore.metadata.api.stb.StbApplicationMetadata;
+import com.lgi.appstore.metadata.model.AppIdWithType;
+import com.lgi.appstore.metadata.model.StbApplicationDetails;
+import com.lgi.appstore.metadata.model.StbSingleApplicationHeader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StbApplicationMetadataCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StbApplicationMetadataCache cache = new StbApplicationMetadataCache(meterRegistry, DataSize.ofMegabytes(1));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void cachesLatestAndVersionedDetailsSeparately() {
+        // WHEN
+        cache.getLatest("com.lgi.app", loader("com.lgi.app", "1.0.0"));
+        cache.getLatest("com.lgi.app", loader("com.lgi.app", "1.0.0"));
+        final Optional<StbApplicationMetadata> versioned = cache.get("com.lgi.app", "0.9.0", loader("com.lgi.app", "0.9.0"));
+
+        // THEN
+        assertThat(loads).hasValue(2);
+        assertThat(versioned).map(metadata -> metadata.getApplicationDetails().getHeader().getVersion()).contains("0.9.0");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", StbApplicationMetadataCache.CACHE_NAME).tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void batchLoadsOnlyMissingDetailsAndCachesMisses() {
+        // GIVEN
+        cache.getLatest("com.lgi.app", loader("com.lgi.app", "1.0.0"));
+        final List<Collection<Pair<String, String>>> batchLoads = new ArrayList<>();
+
+        // WHEN
+        final Map<Pair<String, String>, StbApplicationMetadata> applicationsMetadata = cache.getAll(
+                List.of(Pair.of("com.lgi.app", "latest"), Pair.of("com.lgi.other", "2.0.0"), Pair.of("com.lgi.missing", "latest")),
+                missing -> {
+                    batchLoads.add(missing);
+                    return Map.of(Pair.of("com.lgi.other", "2.0.0"), loader("com.lgi.other", "2.0.0").get().orElseThrow());
+                });
+        cache.get("com.lgi.missing", "latest", loader("com.lgi.missing", "1.0.0"));
+
+        // THEN
+        assertThat(applicationsMetadata).containsOnlyKeys(Pair.of("com.lgi.app", "latest"), Pair.of("com.lgi.other", "2.0.0"));
+        assertThat(batchLoads).singleElement().satisfies(missing ->
+                assertThat(missing).containsExactlyInAnyOrder(Pair.of("com.lgi.other", "2.0.0"), Pair.of("com.lgi.missing", "latest")));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictsOnlyDetailsOfChangedApplication() {
+        // GIVEN
+        cache.getLatest("com.lgi.app", loader("com.lgi.app", "1.0.0"));
+        cache.get("com.lgi.app", "0.9.0", loader("com.lgi.app", "0.9.0"));
+        cache.getLatest("com.lgi.other", loader("com.lgi.other", "1.0.0"));
+
+        // WHEN
+        cache.onCatalogChanged(CatalogChangedEvent.forApplication("com.lgi.app"));
+        final Optional<StbApplicationMetadata> latest = cache.getLatest("com.lgi.app", loader("com.lgi.app", "1.1.0"));
+        cache.getLatest("com.lgi.other", loader("com.lgi.other", "1.0.0"));
+
+        // THEN
+        assertThat(loads).hasValue(4);
+        assertThat(latest).map(metadata -> metadata.getApplicationDetails().getHeader().getVersion()).contains("1.1.0");
+    }
+
+    @Test
+    void doesNotKeepDetailsLoadedWhileApplicationChanged() {
+        // GIVEN
+        final Supplier<Optional<StbApplicationMetadata>> staleLoader = loader("com.lgi.app", "1.0.0");
+
+        // WHEN
+        cache.getLatest("com.lgi.app", () -> {
+            final Optional<StbApplicationMetadata> applicationMetadata = staleLoader.get();
+            cache.onCatalogChanged(CatalogChangedEvent.forApplication("com.lgi.app"));
+            return applicationMetadata;
+        });
+        final Optional<StbApplicationMetadata> latest = cache.getLatest("com.lgi.app", loader("com.lgi.app", "1.1.0"));
+
+        // THEN
+        assertThat(loads).hasValue(2);
+        assertThat(latest).map(metadata -> metadata.getApplicationDetails().getHeader().getVersion()).contains("1.1.0");
+    }
+
+    @Test
+    void evictsEverythingWhenWholeCatalogChanges() {
+        // GIVEN
+        cache.getLatest("com.lgi.app", loader("com.lgi.app", "1.0.0"));
+        cache.getLatest("com.lgi.missing", Optional::empty);
+
+        // WHEN
+        cache.onCatalogChanged(CatalogChangedEvent.forWholeCatalog());
+
+        // THEN
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    private Supplier<Optional<StbApplicationMetadata>> loader(String appId, String version) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(new StbApplicationMetadata(new AppIdWithType(appId, "application/vnd.rdk-app.html5"),
+                    new StbApplicationDetails().header(new StbSingleApplicationHeader().id(appId).version(version)),
+                    null));
+        };
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.lgi.appstore.metadata.api.event.CatalogChangedEvent;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Meta;
+import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.model.StbApplicationsList;
+import com.lgi.appstore.metadata.util.JsonProcessorHelper;
+import com.lgi.appstore.metadata.util.ObjectMapperFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StbCatalogResponseCacheTest {
+
+    private final StbCatalogResponseCache cache = new StbCatalogResponseCache(new JsonProcessorHelper(ObjectMapperFactory.create()),
+            new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Set.of(10, 20));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void buildsResponseOncePerGenerationAndQueryShape() {
+        // WHEN
+        final StbCatalogResponse first = cache.get(1L, null, Category.APPLICATION, 0, 10, null, loader());
+        final StbCatalogResponse second = cache.get(1L, null, Category.APPLICATION, 0, 10, null, loader());
+        cache.get(1L, null, Category.APPLICATION, 10, 10, null, loader());
+        cache.get(2L, null, Category.APPLICATION, 0, 10, null, loader());
+
+        // THEN
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void gzippedJsonMatchesJson() throws IOException {
+        // WHEN
+        final StbCatalogResponse response = cache.get(1L, null, null, null, null, IncludeTotal.EXACT, loader());
+
+        // THEN
+        assertThat(new String(response.getJson())).contains("\"id\":\"com.lgi.app\"");
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(response.getGzippedJson()))) {
+            assertThat(gzipInputStream.readAllBytes()).isEqualTo(response.getJson());
+        }
+    }
+
+    @Test
+    void catalogChangeDropsBuiltResponses() {
+        // GIVEN
+        cache.get(1L, null, null, null, null, null, loader());
+
+        // WHEN
+        cache.onCatalogChanged(CatalogChangedEvent.forApplication("com.lgi.app"));
+        cache.get(1L, null, null, null, null, null, loader());
+
+        // THEN
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void onlyQueriesWithoutTextFiltersAndCursorAreCacheable() {
+        assertThat(cache.isCacheable(null, null, null, null, null, null, null, null)).isTrue();
+        assertThat(cache.isCacheable("name", null, null, null, null, null, null, null)).isFalse();
+        assertThat(cache.isCacheable(null, null, null, null, "maintainer", null, null, null)).isFalse();
+        assertThat(cache.isCacheable(null, null, null, null, null, null, null, ApplicationCursor.of("com.lgi.app", "1.0.0"))).isFalse();
+    }
+
+    @Test
+    void onlyFirstPagesOfConfiguredSizesAreCacheable() {
+        assertThat(cache.isCacheable(null, null, null, null, null, 0, 10, null)).isTrue();
+        assertThat(cache.isCacheable(null, null, null, null, null, null, 20, null)).isTrue();
+        assertThat(cache.isCacheable(null, null, null, null, null, 10, 10, null)).isFalse();
+        assertThat(cache.isCacheable(null, null, null, null, null, 0, 11, null)).isFalse();
+    }
+
+    private Supplier<StbApplicationsList> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new StbApplicationsList()
+                    .applications(List.of(new StbApplicationHeader().id("com.lgi.app").version("1.0.0").category(Category.APPLICATION)))
+                    .meta(new Meta().resultSet(new ResultSetMeta().count(1).offset(0).limit(0).total(1)));
+        };
+    }
+}
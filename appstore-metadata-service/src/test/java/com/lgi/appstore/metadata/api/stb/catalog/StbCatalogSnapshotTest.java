@@ -0,0 +1,195 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.api.stb.catalog;
+
+import com.lgi.appstore.metadata.api.service.BaseServiceTest;
+import com.lgi.appstore.metadata.jooq.model.tables.records.ApplicationRecord;
+import com.lgi.appstore.metadata.jooq.model.tables.records.MaintainerRecord;
+import com.lgi.appstore.metadata.model.ApplicationCursor;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.IncludeTotal;
+import com.lgi.appstore.metadata.model.Platform;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.model.StbApplicationsList;
+import com.lgi.appstore.metadata.util.CatalogGenerationHelper;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StbCatalogSnapshotTest extends BaseServiceTest {
+
+    private final StbCatalogSnapshotLoader snapshotLoader;
+    private final DSLContext dslContext;
+
+    @Autowired
+    public StbCatalogSnapshotTest(DSLContext dslContext) {
+        this.dslContext = dslContext;
+        snapshotLoader = new StbCatalogSnapshotLoader(dslContext);
+    }
+
+    @Test
+    void snapshotContainsOnlyVisibleApplications() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final ApplicationRecord visibleApplication = createRandomApplicationRecord(maintainerRecord, UUID.randomUUID().toString(), "1.0.0", true);
+        final ApplicationRecord hiddenApplication = createRandomApplicationRecord(maintainerRecord, UUID.randomUUID().toString(), "1.0.0", true);
+        hiddenApplication.setVisible(false).update();
+
+        final StbApplicationsList applicationsList = snapshotLoader.load()
+                .listApplications(null, null, null, null, null, null, maintainerRecord.getName(), null, null, null, null);
+
+        assertThat(applicationsList.getApplications())
+                .extracting(StbApplicationHeader::getId)
+                .containsExactly(visibleApplication.getIdRdomain());
+        assertThat(applicationsList.getMeta().getResultSet().getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotFiltersLikeDatabaseQuery() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final ApplicationRecord applicationRecord = createRandomApplicationRecord(maintainerRecord, UUID.randomUUID().toString(), "1.0.0", true);
+        createRandomApplicationRecord(maintainerRecord, UUID.randomUUID().toString(), "1.0.0", true);
+        final Platform platform = applicationRecord.getPlatform();
+
+        final StbCatalogSnapshot snapshot = snapshotLoader.load();
+
+        final StbApplicationsList byName = snapshot.listApplications(applicationRecord.getName().substring(2, 10).toUpperCase(Locale.ROOT),
+                null, null, null, null, null, maintainerRecord.getName(), null, null, null, null);
+        final StbApplicationsList byPlatform = snapshot.listApplications(null, null, null, null,
+                new Platform().architecture(platform.getArchitecture()).os(platform.getOs()), Category.APPLICATION, null, null, null, null, null);
+        final StbApplicationsList byVersion = snapshot.listApplications(null, null, "1.0.0", null, null, null, maintainerRecord.getName(), null, null, null, null);
+        final StbApplicationsList byUnknownMaintainer = snapshot.listApplications(null, null, null, null, null, null, UUID.randomUUID().toString(), null, null, null, null);
+
+        assertThat(byName.getApplications()).extracting(StbApplicationHeader::getId).containsExactly(applicationRecord.getIdRdomain());
+        assertThat(byPlatform.getApplications()).extracting(StbApplicationHeader::getId).containsExactly(applicationRecord.getIdRdomain());
+        assertThat(byVersion.getApplications()).hasSize(2);
+        assertThat(byUnknownMaintainer.getApplications()).isEmpty();
+    }
+
+    @Test
+    void preferredVersionWinsOverLatestVersion() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final String applicationId = UUID.randomUUID().toString();
+        createRandomApplicationRecord(maintainerRecord, applicationId, "2.0.0", true);
+        markPreferred(createRandomApplicationRecord(maintainerRecord, applicationId, "1.0.0", false));
+        createRandomApplicationRecord(maintainerRecord, applicationId, "0.9.0", false);
+
+        final StbApplicationsList applicationsList = snapshotLoader.load()
+                .listApplications(null, null, null, null, null, null, maintainerRecord.getName(), null, null, null, null);
+
+        assertThat(applicationsList.getApplications())
+                .extracting(StbApplicationHeader::getVersion)
+                .containsExactly("1.0.0");
+        assertThat(applicationsList.getMeta().getResultSet().getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotPaginatesResolvedApplications() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        for (int i = 0; i < 5; i++) {
+            final String applicationId = UUID.randomUUID().toString();
+            createRandomApplicationRecord(maintainerRecord, applicationId, "2.0.0", true);
+            markPreferred(createRandomApplicationRecord(maintainerRecord, applicationId, "1.0.0", false));
+        }
+
+        final StbCatalogSnapshot snapshot = snapshotLoader.load();
+        final StbApplicationsList firstPage = snapshot.listApplications(null, null, null, null, null, null, maintainerRecord.getName(), 0, 2, null, null);
+        final StbApplicationsList lastPage = snapshot.listApplications(null, null, null, null, null, null, maintainerRecord.getName(), 4, 2, null, null);
+
+        assertThat(firstPage.getApplications()).hasSize(2);
+        assertThat(firstPage.getMeta().getResultSet().getCount()).isEqualTo(2);
+        assertThat(firstPage.getMeta().getResultSet().getTotal()).isEqualTo(5);
+        assertThat(lastPage.getApplications()).hasSize(1);
+        assertThat(lastPage.getMeta().getResultSet().getTotal()).isEqualTo(5);
+
+        final List<String> firstPageIds = firstPage.getApplications().stream().map(StbApplicationHeader::getId).collect(Collectors.toList());
+        assertThat(firstPageIds).isSorted().doesNotContain(lastPage.getApplications().get(0).getId());
+    }
+
+    @Test
+    void snapshotPaginatesByCursor() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        for (int i = 0; i < 5; i++) {
+            createRandomApplicationRecord(maintainerRecord, UUID.randomUUID().toString(), "1.0.0", true);
+        }
+
+        final StbCatalogSnapshot snapshot = snapshotLoader.load();
+        final StbApplicationsList firstPage = snapshot.listApplications(null, null, null, null, null, null, maintainerRecord.getName(), null, 3, null, null);
+        final String nextCursor = firstPage.getMeta().getResultSet().getNextCursor();
+        final StbApplicationsList lastPage = snapshot.listApplications(null, null, null, null, null, null, maintainerRecord.getName(), null, 3,
+                ApplicationCursor.fromString(nextCursor), null);
+
+        assertThat(nextCursor).isNotNull();
+        assertThat(lastPage.getApplications()).hasSize(2);
+        assertThat(lastPage.getMeta().getResultSet().getTotal()).isEqualTo(5);
+        assertThat(lastPage.getMeta().getResultSet().getNextCursor()).isNull();
+
+        final List<String> allIds = firstPage.getApplications().stream().map(StbApplicationHeader::getId).collect(Collectors.toList());
+        allIds.addAll(lastPage.getApplications().stream().map(StbApplicationHeader::getId).collect(Collectors.toList()));
+        assertThat(allIds).isSorted().doesNotHaveDuplicates().hasSize(5);
+    }
+
+    @Test
+    void snapshotSkipsTotalOnRequest() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        createRandomApplicationRecord(maintainerRecord, UUID.randomUUID().toString(), "1.0.0", true);
+
+        final StbCatalogSnapshot snapshot = snapshotLoader.load();
+        final StbApplicationsList withoutTotal = snapshot.listApplications(null, null, null, null, null, null, maintainerRecord.getName(), null, null, null,
+                IncludeTotal.FALSE);
+        final StbApplicationsList withEstimatedTotal = snapshot.listApplications(null, null, null, null, null, null, maintainerRecord.getName(), null, null, null,
+                IncludeTotal.ESTIMATE);
+
+        assertThat(withoutTotal.getApplications()).hasSize(1);
+        assertThat(withoutTotal.getMeta().getResultSet().getTotal()).isNull();
+        assertThat(withEstimatedTotal.getMeta().getResultSet().getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotReturnsHeadersNotSharedBetweenResponses() throws Exception {
+        final MaintainerRecord maintainerRecord = createRandomMaintainerRecord();
+        final ApplicationRecord applicationRecord = createRandomApplicationRecord(maintainerRecord, UUID.randomUUID().toString(), "1.0.0", true);
+
+        final StbCatalogSnapshot snapshot = snapshotLoader.load();
+        final StbApplicationHeader modifiedHeader = snapshot.listApplications(null, null, null, null, null, null, maintainerRecord.getName(), null, null,
+                null, null).getApplications().get(0);
+        modifiedHeader.name("modified").localization(null);
+        final StbApplicationHeader nextHeader = snapshot.listApplications(null, null, null, null, null, null, maintainerRecord.getName(), null, null,
+                null, null).getApplications().get(0);
+
+        assertThat(nextHeader).isNotSameAs(modifiedHeader);
+        assertThat(nextHeader.getName()).isEqualTo(applicationRecord.getName());
+        assertThat(nextHeader.getLocalization()).isEqualTo(applicationRecord.getLocalizations());
+    }
+
+    @Test
+    void snapshotRecordsCatalogGeneration() {
+        final long generation = CatalogGenerationHelper.fetch(dslContext).getGeneration();
+
+        final StbCatalogSnapshot snapshot = snapshotLoader.load();
+
+        assertThat(snapshot.getGeneration()).isEqualTo(generation);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.jooq;
+
+import com.lgi.appstore.metadata.api.service.BaseServiceTest;
+import com.lgi.appstore.metadata.util.CursorFetchHelper;
+import com.lgi.appstore.metadata.util.QueryNameHelper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryMetricsListenerProviderTest extends BaseServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DSLContext dslContext;
+
+    @Autowired
+    QueryMetricsListenerProviderTest(DSLContext dslContext) {
+        this.dslContext = DSL.using(dslContext.configuration()
+                .derive(new QueryMetricsListenerProvider(meterRegistry, Duration.ofMinutes(1))));
+    }
+
+    @Test
+    void namedQueriesAreTimedWithFetchedRows() {
+        QueryNameHelper.named(dslContext, "test.series").fetch("select generate_series(1, 3)");
+
+        assertThat(timer("test.series", "success").count()).isEqualTo(1);
+        final DistributionSummary rows = rows("test.series");
+        assertThat(rows.count()).isEqualTo(1);
+        assertThat(rows.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void queryNamesArePassedToTransactions() {
+        final DSLContext namedDslContext = QueryNameHelper.named(dslContext, "test.cursor");
+
+        CursorFetchHelper.fetchMapped(namedDslContext, namedDslContext.resultQuery("select generate_series(1, 5)"), record -> record.get(0));
+
+        assertThat(rows("test.cursor").totalAmount()).isEqualTo(5);
+    }
+
+    @Test
+    void unnamedQueriesAreTimedTogether() {
+        dslContext.fetch("select 1");
+        dslContext.fetch("select 2");
+
+        assertThat(timer(QueryNameHelper.UNNAMED_QUERY, "success").count()).isEqualTo(2);
+        assertThat(rows(QueryNameHelper.UNNAMED_QUERY).totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void failedQueriesAreTimedAsErrors() {
+        final DSLContext namedDslContext = QueryNameHelper.named(dslContext, "test.failing");
+
+        assertThrows(DataAccessException.class, () -> namedDslContext.fetch("select * from missing_table"));
+
+        assertThat(timer("test.failing", "error").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String queryName, String outcome) {
+        return meterRegistry.get(QueryMetricsListenerProvider.QUERY_TIMER)
+                .tag(QueryMetricsListenerProvider.QUERY_TAG, queryName)
+                .tag(QueryMetricsListenerProvider.OUTCOME_TAG, outcome)
+                .timer();
+    }
+
+    private DistributionSummary rows(String queryName) {
+        return meterRegistry.get(QueryMetricsListenerProvider.QUERY_ROWS)
+                .tag(QueryMetricsListenerProvider.QUERY_TAG, queryName)
+                .summary();
+    }
+}
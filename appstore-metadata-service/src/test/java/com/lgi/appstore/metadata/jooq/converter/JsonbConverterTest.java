@@ -0,0 +1,84 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.jooq.converter;
+
+import com.lgi.appstore.metadata.api.error.JsonException;
+import com.lgi.appstore.metadata.model.Hardware;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.Platform;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonbConverterTest {
+
+    @Test
+    void roundTripsModelTypes() {
+        // GIVEN
+        final LocalizationsConverter localizationsConverter = new LocalizationsConverter();
+        final PlatformConverter platformConverter = new PlatformConverter();
+        final List<Localization> localizations = List.of(new Localization().languageCode("en").name("Name").description("Description"));
+        final Platform platform = new Platform().architecture("arm").variant("v7").os("linux");
+
+        // WHEN
+        final List<Localization> convertedLocalizations = localizationsConverter.from(localizationsConverter.to(localizations));
+        final Platform convertedPlatform = platformConverter.from(platformConverter.to(platform));
+
+        // THEN
+        assertThat(convertedLocalizations).isEqualTo(localizations);
+        assertThat(convertedPlatform).isEqualTo(platform);
+    }
+
+    @Test
+    void mapsNullsAndJsonNullToNull() {
+        // GIVEN
+        final HardwareConverter converter = new HardwareConverter();
+
+        // WHEN & THEN
+        assertThat(converter.from(null)).isNull();
+        assertThat(converter.from(JSONB.valueOf("null"))).isNull();
+        assertThat(converter.to(null)).isNull();
+    }
+
+    @Test
+    void ignoresUnknownProperties() {
+        // GIVEN
+        final HardwareConverter converter = new HardwareConverter();
+
+        // WHEN
+        final Hardware hardware = converter.from(JSONB.valueOf("{\"ram\": \"256\", \"image\": \"64M\"}"));
+
+        // THEN
+        assertThat(hardware.getRam()).isEqualTo("256");
+    }
+
+    @Test
+    void reportsMalformedJson() {
+        // GIVEN
+        final FeaturesConverter converter = new FeaturesConverter();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> converter.from(JSONB.valueOf("{\"name\":")))
+                .isInstanceOf(JsonException.class);
+    }
+}
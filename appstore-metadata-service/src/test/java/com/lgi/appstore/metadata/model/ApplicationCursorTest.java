@@ -0,0 +1,64 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ApplicationCursorTest {
+
+    @Test
+    void canBeDecodedFromItsStringForm() {
+        // GIVEN
+        final ApplicationCursor applicationCursor = ApplicationCursor.of("com.lgi.app", "1.2.3");
+
+        // WHEN
+        final ApplicationCursor decodedApplicationCursor = ApplicationCursor.fromString(applicationCursor.toString());
+
+        // THEN
+        assertEquals(applicationCursor, decodedApplicationCursor);
+        assertEquals("com.lgi.app", decodedApplicationCursor.getAppId());
+        assertEquals("1.2.3", decodedApplicationCursor.getVersion());
+    }
+
+    @Test
+    void isUrlSafe() {
+        // GIVEN
+        final ApplicationCursor applicationCursor = ApplicationCursor.of("com.lgi.app?>>", "1.2.3~~~");
+
+        // WHEN
+        final String cursor = applicationCursor.toString();
+
+        // THEN
+        assertFalse(cursor.contains("+"));
+        assertFalse(cursor.contains("/"));
+        assertFalse(cursor.contains("="));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "Y29tLmxnaS5hcHA", "CjEuMi4z", "Y29tLmxnaS5hcHAKMS4yLjMKeA"})
+    void rejectsInvalidCursor(String cursor) {
+        assertThrows(IllegalArgumentException.class, () -> ApplicationCursor.fromString(cursor));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.lgi.appstore.metadata.jooq.model.tables.Application.APPLICATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationPreferredHelperTest {
+
+    private final DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+
+    @Test
+    void preferredRecordReplacesOtherRecordsOfTheSameApplication() {
+        // GIVEN
+        final List<Record2<String, Boolean>> records = List.of(
+                createRecord("app1", false),
+                createRecord("app1", true),
+                createRecord("app2", false),
+                createRecord("app3", false),
+                createRecord("app3", false));
+
+        // WHEN
+        final List<Record2<String, Boolean>> matched = ApplicationPreferredHelper.matchByPreferredVersion(records);
+
+        // THEN
+        assertThat(matched).containsExactly(records.get(1), records.get(2), records.get(3), records.get(4));
+    }
+
+    @Test
+    void returnsAllRecordsWhenNothingIsPreferred() {
+        // GIVEN
+        final List<Record2<String, Boolean>> records = List.of(createRecord("app1", false), createRecord("app2", false));
+
+        // WHEN
+        final List<Record2<String, Boolean>> matched = ApplicationPreferredHelper.matchByPreferredVersion(records);
+
+        // THEN
+        assertThat(matched).containsExactlyElementsOf(records);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 100, 1000})
+    void producesTheSameResultAsPairwiseComparison(int size) {
+        // GIVEN
+        final Random random = new Random(size);
+        final List<Record2<String, Boolean>> records = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            records.add(createRecord("app" + random.nextInt(Math.max(1, size / 3)), random.nextInt(4) == 0));
+        }
+
+        // WHEN
+        final List<Record2<String, Boolean>> matched = ApplicationPreferredHelper.matchByPreferredVersion(records);
+
+        // THEN
+        final List<Record2<String, Boolean>> expected = records.stream()
+                .filter(record1 -> records.stream()
+                        .filter(record2 -> record1 != record2)
+                        .noneMatch(record2 -> record1.get(APPLICATION.ID_RDOMAIN).equals(record2.get(APPLICATION.ID_RDOMAIN))
+                                && record2.get(APPLICATION.PREFERRED).equals(true)))
+                .collect(Collectors.toList());
+        assertThat(matched).containsExactlyElementsOf(expected);
+    }
+
+    private Record2<String, Boolean> createRecord(String applicationId, boolean preferred) {
+        final Record2<String, Boolean> record = dslContext.newRecord(APPLICATION.ID_RDOMAIN, APPLICATION.PREFERRED);
+        record.value1(applicationId);
+        record.value2(preferred);
+        return record;
+    }
+}
@@ -20,10 +20,15 @@ package com.lgi.appstore.metadata.util;
 
 import com.lgi.appstore.metadata.model.Hardware;
 import com.lgi.appstore.metadata.model.JsonObjectNames;
+import com.lgi.appstore.metadata.model.Localization;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JsonProcessorHelperTest {
     private static final String HARDWARE_JSON = "" +
@@ -59,4 +64,40 @@ class JsonProcessorHelperTest {
                 .hasFieldOrPropertyWithValue("persistent", "20M")
                 .hasFieldOrPropertyWithValue("cache", "50M");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReadRegisteredTargetsAsModelTypes() {
+        // GIVEN
+        JsonProcessorHelper jsonProcessorHelper = new JsonProcessorHelper(ObjectMapperFactory.create());
+
+        // WHEN
+        final List<Localization> localizations = jsonProcessorHelper.readValue(JsonObjectNames.LOCALIZATIONS,
+                "[{\"languageCode\": \"en\", \"name\": \"Name\", \"description\": \"Description\"}]");
+
+        // THEN
+        assertThat(localizations).containsExactly(new Localization().languageCode("en").name("Name").description("Description"));
+    }
+
+    @Test
+    void shouldWriteRegisteredTargetsReadableByTheSameTarget() {
+        // GIVEN
+        JsonProcessorHelper jsonProcessorHelper = new JsonProcessorHelper(ObjectMapperFactory.create());
+        final Hardware hardware = new Hardware().ram("256").dmips("2000").persistent("20M").cache("50M");
+
+        // WHEN
+        final String json = jsonProcessorHelper.writeValueAsString(JsonObjectNames.HARDWARE, hardware);
+
+        // THEN
+        assertThat(jsonProcessorHelper.<Hardware>readValue(JsonObjectNames.HARDWARE, json)).isEqualTo(hardware);
+    }
+
+    @Test
+    void shouldRejectUnregisteredTarget() {
+        // GIVEN
+        JsonProcessorHelper jsonProcessorHelper = new JsonProcessorHelper(ObjectMapperFactory.create());
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> jsonProcessorHelper.readValue("unknown", "{}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
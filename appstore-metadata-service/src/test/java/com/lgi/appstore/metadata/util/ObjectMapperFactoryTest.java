@@ -0,0 +1,60 @@
+/*
+ * If not stated otherwise in this file or this component's LICENSE file the
+ * following copyright and licenses apply:
+ *
+ * Copyright 2026 Liberty Global Technology Services BV
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lgi.appstore.metadata.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lgi.appstore.metadata.model.Category;
+import com.lgi.appstore.metadata.model.Localization;
+import com.lgi.appstore.metadata.model.Meta;
+import com.lgi.appstore.metadata.model.ResultSetMeta;
+import com.lgi.appstore.metadata.model.StbApplicationHeader;
+import com.lgi.appstore.metadata.model.StbApplicationsList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectMapperFactoryTest {
+
+    @Test
+    void shouldProduceSameJsonWithAndWithoutBytecodeAccessors() throws Exception {
+        // GIVEN
+        final StbApplicationsList applicationsList = new StbApplicationsList()
+                .applications(List.of(new StbApplicationHeader()
+                        .id("com.lgi.app")
+                        .version("1.0.0")
+                        .name("Application")
+                        .size(100)
+                        .category(Category.APPLICATION)
+                        .localization(List.of(new Localization().languageCode("en").name("Application")))))
+                .meta(new Meta().resultSet(new ResultSetMeta().offset(0).limit(10).count(1)));
+        final ObjectMapper plainObjectMapper = ObjectMapperFactory.create(false);
+        final ObjectMapper blackbirdObjectMapper = ObjectMapperFactory.create(true);
+
+        // WHEN
+        final String plainJson = plainObjectMapper.writeValueAsString(applicationsList);
+        final String blackbirdJson = blackbirdObjectMapper.writeValueAsString(applicationsList);
+
+        // THEN
+        assertThat(blackbirdObjectMapper.getRegisteredModuleIds()).isNotEmpty();
+        assertThat(blackbirdJson).isEqualTo(plainJson);
+        assertThat(blackbirdObjectMapper.readValue(plainJson, StbApplicationsList.class)).isEqualTo(applicationsList);
+    }
+}